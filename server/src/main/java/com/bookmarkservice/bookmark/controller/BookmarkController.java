@@ -1,13 +1,34 @@
 package com.bookmarkservice.bookmark.controller;
 
+import com.bookmarkservice.bookmark.dto.BookmarkBulkRequestDto;
+import com.bookmarkservice.bookmark.dto.BookmarkBulkResultDto;
+import com.bookmarkservice.bookmark.dto.BookmarkExportFormat;
+import com.bookmarkservice.bookmark.dto.BookmarkPatchRequestDto;
 import com.bookmarkservice.bookmark.dto.BookmarkRequestDto;
 import com.bookmarkservice.bookmark.dto.BookmarkUpdateRequestDto;
+import com.bookmarkservice.bookmark.dto.BookmarkUrlLookupRequestDto;
+import com.bookmarkservice.bookmark.dto.BookmarkUrlLookupResultDto;
 import com.bookmarkservice.bookmark.dto.BookmarkResponseDto;
+import com.bookmarkservice.bookmark.service.BookmarkBulkService;
+import com.bookmarkservice.bookmark.service.BookmarkExportService;
+import com.bookmarkservice.bookmark.service.BookmarkImportService;
 import com.bookmarkservice.bookmark.service.BookmarkService;
+import com.bookmarkservice.bookmark.service.PublicBookmarkQueryService;
+import com.bookmarkservice.bookmark.service.BookmarkUrlLookupService;
+import com.bookmarkservice.common.dto.CursorPageResponseDto;
+import com.bookmarkservice.common.fields.FieldSelection;
+import com.bookmarkservice.common.version.UserDataVersionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -17,6 +38,12 @@ import java.util.List;
 public class BookmarkController {
 
     private final BookmarkService bookmarkService;
+    private final PublicBookmarkQueryService publicBookmarkQueryService;
+    private final BookmarkExportService bookmarkExportService;
+    private final BookmarkImportService bookmarkImportService;
+    private final BookmarkBulkService bookmarkBulkService;
+    private final BookmarkUrlLookupService bookmarkUrlLookupService;
+    private final UserDataVersionService userDataVersionService;
 
     // 사용자 북마크 등록
     @PostMapping
@@ -26,33 +53,145 @@ public class BookmarkController {
         return ResponseEntity.ok(bookmarkService.createBookmark(userId, request));
     }
 
-    // 사용자 북마크 태그 조회 (최신순)
+    // 사용자 북마크 태그 조회 (최신순, fields=title,url,favorite 처럼 응답 필드 선택 가능)
+    // 목록 조회는 사용자 데이터 버전 기반 ETag 로 변경이 없으면 304
     @GetMapping
-    public ResponseEntity<List<BookmarkResponseDto>> getAll(
-            @AuthenticationPrincipal String userId) {
-        return ResponseEntity.ok(bookmarkService.getAllBookmarks(userId));
+    public ResponseEntity<MappingJacksonValue> getAll(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest request) {
+        if (userDataVersionService.checkNotModified(userId, request)) {
+            return null; // 304
+        }
+        FieldSelection selection = FieldSelection.parse(fields, BookmarkResponseDto.FIELDS);
+        return ResponseEntity.ok(selection.wrap(bookmarkService.getAllBookmarks(userId, selection)));
+    }
+
+    // 사용자 북마크 커서 기반 페이지 조회 (최신순, 응답 필드 선택 가능)
+    @GetMapping("/page")
+    public ResponseEntity<MappingJacksonValue> getPage(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest request) {
+        if (userDataVersionService.checkNotModified(userId, request)) {
+            return null; // 304
+        }
+        FieldSelection selection = FieldSelection.parse(fields, BookmarkResponseDto.FIELDS);
+        return ResponseEntity.ok(selection.wrap(bookmarkService.getAllBookmarksPage(userId, cursor, size, selection)));
     }
 
-    // 사용자 북마크 제목 검색 (소/대문자 구별 없음)
+    // 사용자 북마크 제목/설명/URL 검색 (소/대문자 구별 없음, 관련도순)
     @GetMapping("/search")
     public ResponseEntity<List<BookmarkResponseDto>> search(
             @AuthenticationPrincipal String userId,
-            @RequestParam("keyword") String keyword) {
-        return ResponseEntity.ok(bookmarkService.searchBookmarks(userId, keyword));
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(bookmarkService.searchBookmarks(userId, keyword, limit));
+    }
+
+    // 사용자 북마크 검색 커서 기반 페이지 조회 (최신순)
+    @GetMapping("/search/page")
+    public ResponseEntity<CursorPageResponseDto<BookmarkResponseDto>> searchPage(
+            @AuthenticationPrincipal String userId,
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookmarkService.searchBookmarksPage(userId, keyword, cursor, size));
     }
 
-    // 공개 카테고리 북마크 검색 (인증 불필요)
-    @GetMapping("/search/public-categories")
-    public ResponseEntity<List<BookmarkResponseDto>> searchPublicCategories(
-            @RequestParam("keyword") String keyword) {
-        return ResponseEntity.ok(bookmarkService.searchPublicCategoryBookmarks(keyword));
+    // 공개 카테고리 북마크 검색 (인증 불필요, 관련도순 페이지)
+    // 기본은 JSON 배열, Accept: application/x-ndjson 이면 한 건씩 스트리밍
+    @GetMapping(value = "/search/public-categories", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<BookmarkResponseDto> searchPublicCategories(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return publicBookmarkQueryService.searchPublicCategoryBookmarks(keyword, page, size);
     }
 
-    // 즐겨찾기한 사용자 북마크 조회
+    // URL 북마크 여부 확인 (정규화된 URL 기준)
+    @GetMapping("/lookup")
+    public ResponseEntity<BookmarkUrlLookupResultDto> lookup(
+            @AuthenticationPrincipal String userId,
+            @RequestParam("url") String url) {
+        return ResponseEntity.ok(bookmarkUrlLookupService.lookup(userId, url));
+    }
+
+    // 여러 URL 북마크 여부 일괄 확인 (요청 순서대로 결과 반환)
+    @PostMapping("/lookup")
+    public ResponseEntity<List<BookmarkUrlLookupResultDto>> lookupAll(
+            @AuthenticationPrincipal String userId,
+            @RequestBody BookmarkUrlLookupRequestDto request) {
+        return ResponseEntity.ok(bookmarkUrlLookupService.lookup(userId, request.getUrls()));
+    }
+
+    // 즐겨찾기한 사용자 북마크 조회 (응답 필드 선택 가능)
     @GetMapping("/favorites")
-    public ResponseEntity<List<BookmarkResponseDto>> getFavorites(
+    public ResponseEntity<MappingJacksonValue> getFavorites(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest request) {
+        if (userDataVersionService.checkNotModified(userId, request)) {
+            return null; // 304
+        }
+        FieldSelection selection = FieldSelection.parse(fields, BookmarkResponseDto.FIELDS);
+        return ResponseEntity.ok(selection.wrap(bookmarkService.getFavoriteBookmarks(userId, selection)));
+    }
+
+    // 즐겨찾기한 사용자 북마크 커서 기반 페이지 조회 (최신순, 응답 필드 선택 가능)
+    @GetMapping("/favorites/page")
+    public ResponseEntity<MappingJacksonValue> getFavoritesPage(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest request) {
+        if (userDataVersionService.checkNotModified(userId, request)) {
+            return null; // 304
+        }
+        FieldSelection selection = FieldSelection.parse(fields, BookmarkResponseDto.FIELDS);
+        return ResponseEntity.ok(selection.wrap(bookmarkService.getFavoriteBookmarksPage(userId, cursor, size, selection)));
+    }
+
+    // 사용자 북마크 전체 내보내기 (NDJSON/JSON 스트리밍, gzip 선택)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        BookmarkExportFormat exportFormat = BookmarkExportFormat.from(format);
+        String filename = "bookmarks." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(out -> bookmarkExportService.export(userId, exportFormat, gzip, out));
+    }
+
+    // 브라우저 북마크 HTML 파일 가져오기 (progress=true 면 진행 상황을 NDJSON 으로 스트리밍)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importBookmarks(
+            @AuthenticationPrincipal String userId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "progress", defaultValue = "false") boolean progress) {
+        if (!progress) {
+            return ResponseEntity.ok(bookmarkImportService.importNetscapeHtml(userId, file));
+        }
+
+        StreamingResponseBody body = out -> bookmarkImportService.importNetscapeHtml(userId, file, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    // 여러 북마크 일괄 작업 (삭제, 즐겨찾기, 태그 추가/제거). 항목별 결과 반환
+    @PostMapping("/bulk")
+    public ResponseEntity<BookmarkBulkResultDto> bulk(
+            @RequestBody BookmarkBulkRequestDto request,
             @AuthenticationPrincipal String userId) {
-        return ResponseEntity.ok(bookmarkService.getFavoriteBookmarks(userId));
+        return ResponseEntity.ok(bookmarkBulkService.execute(userId, request));
     }
 
     // 사용자 북마크 업데이트 (전체 필드 다 적어야 함)
@@ -64,6 +203,15 @@ public class BookmarkController {
         return ResponseEntity.ok(bookmarkService.updateBookmark(userId, bookmarkId, request));
     }
 
+    // 사용자 북마크 부분 업데이트 (보낸 필드만 변경)
+    @PatchMapping("/{bookmarkId}")
+    public ResponseEntity<BookmarkResponseDto> patchBookmark(
+            @PathVariable String bookmarkId,
+            @RequestBody BookmarkPatchRequestDto request,
+            @AuthenticationPrincipal String userId) {
+        return ResponseEntity.ok(bookmarkService.patchBookmark(userId, bookmarkId, request));
+    }
+
     // 사용자 북마크 즐겨찾기 토글
     @PatchMapping("/{bookmarkId}/favorite")
     public ResponseEntity<Void> toggleFavorite(
@@ -0,0 +1,21 @@
+package com.bookmarkservice.bookmark.dto;
+
+import com.bookmarkservice.common.exception.BadRequestException;
+
+public enum BookmarkBulkAction {
+    DELETE,
+    FAVORITE,
+    UNFAVORITE,
+    ADD_TAG,
+    REMOVE_TAG,
+    SET_FAVORITE; // 북마크마다 다른 즐겨찾기 값 (favorites)
+
+    public static BookmarkBulkAction from(String value) {
+        for (BookmarkBulkAction action : values()) {
+            if (action.name().equalsIgnoreCase(value)) {
+                return action;
+            }
+        }
+        throw new BadRequestException("지원하지 않는 일괄 작업입니다: " + value);
+    }
+}
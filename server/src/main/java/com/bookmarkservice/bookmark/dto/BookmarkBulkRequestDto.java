@@ -0,0 +1,16 @@
+package com.bookmarkservice.bookmark.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+public class BookmarkBulkRequestDto {
+    private String action;
+    private List<String> ids;               // SET_FAVORITE 외 작업 대상
+    private String tagName;                 // ADD_TAG, REMOVE_TAG
+    private Map<String, Boolean> favorites; // SET_FAVORITE: 북마크 ID -> 즐겨찾기 여부
+}
@@ -0,0 +1,27 @@
+package com.bookmarkservice.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BookmarkBulkResultDto {
+    private String action;
+    private int requested;
+    private int succeeded;
+    private List<ItemResult> results;
+
+    public enum Status {
+        OK,
+        NOT_FOUND // 없거나 다른 사용자의 북마크
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ItemResult {
+        private String id;
+        private Status status;
+    }
+}
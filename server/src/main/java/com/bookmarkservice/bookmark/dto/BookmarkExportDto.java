@@ -0,0 +1,18 @@
+package com.bookmarkservice.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BookmarkExportDto {
+    private String url;
+    private String title;
+    private String description;
+    private boolean favorite;
+    private LocalDateTime createdAt;
+    private List<String> tags; // 태그 이름
+}
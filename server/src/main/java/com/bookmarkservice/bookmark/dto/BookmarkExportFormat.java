@@ -0,0 +1,24 @@
+package com.bookmarkservice.bookmark.dto;
+
+import com.bookmarkservice.common.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BookmarkExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    JSON("application/json", "json");
+
+    private final String contentType;
+    private final String extension;
+
+    public static BookmarkExportFormat from(String value) {
+        for (BookmarkExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bookmarkservice.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookmarkImportResultDto {
+    private boolean completed;      // false 면 진행 중 스냅샷
+    private long parsed;            // 파일에서 읽은 북마크 수
+    private long imported;          // 저장된 북마크 수
+    private long failed;            // 저장에 실패한 북마크 수
+    private int batches;            // 실행된 벌크 insert 횟수
+    private int tagsCreated;        // 새로 만든 태그 수
+    private long elapsedMillis;
+    private double bookmarksPerSecond;
+}
@@ -0,0 +1,17 @@
+package com.bookmarkservice.bookmark.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 부분 수정 요청 (null 인 필드는 변경하지 않음)
+@Getter
+@Setter
+public class BookmarkPatchRequestDto {
+    private String title;
+    private String url;
+    private String description;
+    private Boolean favorite;
+    private List<String> tagNames;
+}
@@ -1,16 +1,23 @@
 package com.bookmarkservice.bookmark.dto;
 
 import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.common.fields.FieldSelection;
 import com.bookmarkservice.tag.dto.TagResponseDto;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Setter
+@JsonFilter(FieldSelection.FILTER_ID)
 public class BookmarkResponseDto {
+    // fields= 로 선택 가능한 응답 필드
+    public static final Set<String> FIELDS = Set.of("id", "url", "title", "description", "favorite", "createdAt", "tagNames");
+
     private final String id;
     private String url;
     private String title;
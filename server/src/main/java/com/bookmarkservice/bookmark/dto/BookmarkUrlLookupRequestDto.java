@@ -0,0 +1,12 @@
+package com.bookmarkservice.bookmark.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BookmarkUrlLookupRequestDto {
+    private List<String> urls;
+}
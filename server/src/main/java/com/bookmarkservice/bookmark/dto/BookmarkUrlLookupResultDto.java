@@ -0,0 +1,13 @@
+package com.bookmarkservice.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookmarkUrlLookupResultDto {
+    private String url;
+    private String normalizedUrl;
+    private boolean bookmarked;
+    private String bookmarkId; // 북마크되지 않았으면 null
+}
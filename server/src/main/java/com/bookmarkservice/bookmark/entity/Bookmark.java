@@ -1,13 +1,26 @@
 package com.bookmarkservice.bookmark.entity;
 
+import com.bookmarkservice.tag.entity.TagSnapshot;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Document(collection = "bookmarks")
+@CompoundIndexes({
+        // 키셋 페이지네이션 (createdAt, _id) 정렬용
+        @CompoundIndex(name = "user_created_idx", def = "{'userId': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "user_favorite_created_idx", def = "{'userId': 1, 'favorite': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "user_tag_created_idx", def = "{'userId': 1, 'tagIds': 1, 'createdAt': -1, '_id': -1}"),
+        // 개인 검색용 토큰 인덱스 (정규식 전체 스캔 대체)
+        @CompoundIndex(name = "user_search_tokens_idx", def = "{'userId': 1, 'searchTokens': 1}"),
+        // URL 중복 확인용 해시 인덱스
+        @CompoundIndex(name = "user_url_hash_idx", def = "{'userId': 1, 'urlHash': 1}")
+})
 @Getter @Setter @Builder
 @NoArgsConstructor @AllArgsConstructor
 public class Bookmark {
@@ -21,5 +34,12 @@ public class Bookmark {
     private boolean favorite;
 
     private List<String> tagIds;
+    private List<TagSnapshot> tags; // tagIds 와 같은 순서의 태그 사본
     private LocalDateTime createdAt;
+
+    // 제목/설명/URL 검색 토큰 (BookmarkSearchTokenizer 로 생성)
+    private List<String> searchTokens;
+
+    // 정규화된 URL 해시 (BookmarkUrlNormalizer 로 생성)
+    private String urlHash;
 }
@@ -0,0 +1,66 @@
+package com.bookmarkservice.bookmark.entity;
+
+import com.bookmarkservice.tag.entity.TagSnapshot;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 공개 카테고리를 통해 노출되는 북마크의 비정규화 사본 (읽기 전용 모델)
+// categories.isPublic / categories.tagIds / bookmarks.tagIds 조인 없이 한 번의 인덱스 조회로 공개 북마크를 읽기 위함
+@Document(collection = "public_bookmarks")
+@CompoundIndexes({
+        @CompoundIndex(name = "category_created_idx", def = "{'categoryIds': 1, 'createdAt': -1, '_id': -1}")
+})
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class PublicBookmark {
+    @Id
+    private String id; // 원본 북마크 ID
+
+    @Indexed
+    private String userId;
+    private String url;
+    private String title;
+    private String description;
+    private boolean favorite;
+
+    private List<String> tagIds;
+    private List<TagSnapshot> tags;
+    private List<String> categoryIds; // 이 북마크를 노출하는 공개 카테고리
+    private LocalDateTime createdAt;
+
+    public static PublicBookmark of(Bookmark bookmark, List<String> categoryIds) {
+        return PublicBookmark.builder()
+                .id(bookmark.getId())
+                .userId(bookmark.getUserId())
+                .url(bookmark.getUrl())
+                .title(bookmark.getTitle())
+                .description(bookmark.getDescription())
+                .favorite(bookmark.isFavorite())
+                .tagIds(bookmark.getTagIds())
+                .tags(bookmark.getTags())
+                .categoryIds(categoryIds)
+                .createdAt(bookmark.getCreatedAt())
+                .build();
+    }
+
+    public Bookmark toBookmark() {
+        return Bookmark.builder()
+                .id(id)
+                .userId(userId)
+                .url(url)
+                .title(title)
+                .description(description)
+                .favorite(favorite)
+                .tagIds(tagIds)
+                .tags(tags)
+                .createdAt(createdAt)
+                .build();
+    }
+}
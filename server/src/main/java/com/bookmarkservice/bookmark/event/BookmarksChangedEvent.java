@@ -0,0 +1,37 @@
+package com.bookmarkservice.bookmark.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 북마크 생성/수정/삭제 후 발행
+// bookmarkIds 가 null 이면 사용자의 북마크 전체가 바뀐 것으로 간주 (가져오기 등)
+// tagDeltas 는 태그별 사용 북마크 수 변화량 (null 이면 알 수 없음, 빈 맵이면 태그 변화 없음)
+@Getter
+@AllArgsConstructor
+public class BookmarksChangedEvent {
+    private final String userId;
+    private final Collection<String> bookmarkIds;
+    private final Map<String, Integer> tagDeltas;
+
+    public BookmarksChangedEvent(String userId, Collection<String> bookmarkIds) {
+        this(userId, bookmarkIds, null);
+    }
+
+    // 변경 전/후 태그 ID 목록의 차이 (추가된 태그 +1, 제거된 태그 -1)
+    public static Map<String, Integer> tagDeltas(List<String> before, List<String> after) {
+        Map<String, Integer> deltas = new HashMap<>();
+        if (before != null) {
+            before.stream().distinct().forEach(tagId -> deltas.merge(tagId, -1, Integer::sum));
+        }
+        if (after != null) {
+            after.stream().distinct().forEach(tagId -> deltas.merge(tagId, 1, Integer::sum));
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+}
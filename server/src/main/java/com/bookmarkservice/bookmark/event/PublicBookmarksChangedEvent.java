@@ -0,0 +1,15 @@
+package com.bookmarkservice.bookmark.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+
+// 공개 북마크 읽기 모델(public_bookmarks) 갱신 후 발행
+// bookmarkIds 가 null 이면 사용자의 공개 북마크 전체가 다시 동기화된 것
+@Getter
+@AllArgsConstructor
+public class PublicBookmarksChangedEvent {
+    private final String userId;
+    private final Collection<String> bookmarkIds;
+}
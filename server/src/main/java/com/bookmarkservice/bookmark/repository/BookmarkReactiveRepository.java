@@ -0,0 +1,14 @@
+package com.bookmarkservice.bookmark.repository;
+
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+// 인증 없이 호출되는 공개 조회용 (요청 스레드를 점유하지 않음)
+public interface BookmarkReactiveRepository extends ReactiveMongoRepository<Bookmark, String> {
+    @Query(fields = "{ 'searchTokens' : 0 }")
+    Flux<Bookmark> findByUserIdAndTagIdsInOrderByCreatedAtDesc(String userId, List<String> tagIds);
+}
@@ -2,16 +2,22 @@ package com.bookmarkservice.bookmark.repository;
 
 import com.bookmarkservice.bookmark.entity.Bookmark;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface BookmarkRepository extends MongoRepository<Bookmark, String> {
+public interface BookmarkRepository extends MongoRepository<Bookmark, String>, BookmarkRepositoryCustom {
     List<Bookmark> findByUserId(String userId);
-    List<Bookmark> findByUserIdAndTitleContainingIgnoreCase(String userId, String keyword);
     List<Bookmark> findByUserIdAndTagIdsInOrderByCreatedAtDesc(String userId, List<String> tagIds);
     List<Bookmark> findByUserIdAndFavoriteIsTrueOrderByCreatedAtDesc(String userId);
-    List<Bookmark> findByUserIdAndTagIdsContaining(String userId, String tagId);
+
+    // 카테고리 가져오기용: 태그에 속한 북마크를 커서로 순회 (검색 토큰은 복사 시 다시 생성)
+    @Query(fields = "{ 'searchTokens' : 0 }")
+    Stream<Bookmark> streamByUserIdAndTagIdsIn(String userId, Collection<String> tagIds);
+    long countByUserIdAndTagIdsIn(String userId, Collection<String> tagIds);
     
     // 전체 북마크 검색 메서드들 (카테고리 기반 필터링용)
     List<Bookmark> findByTitleContainingIgnoreCase(String keyword);
@@ -0,0 +1,75 @@
+package com.bookmarkservice.bookmark.repository;
+
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.common.pagination.KeysetCursor;
+import com.bookmarkservice.tag.entity.TagSnapshot;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface BookmarkRepositoryCustom {
+    // (createdAt desc, _id desc) 키셋 페이지 조회. cursor 가 null 이면 첫 페이지
+    List<Bookmark> findPage(Criteria filter, KeysetCursor cursor, int limit);
+
+    // fields 가 있으면 해당 문서 필드만 조회 (null 이면 검색 토큰을 뺀 전체)
+    List<Bookmark> findPage(Criteria filter, KeysetCursor cursor, int limit, Collection<String> fields);
+
+    // 조건에 맞는 북마크 전체 (최신순). fields 는 findPage 와 동일
+    List<Bookmark> findList(Criteria filter, Collection<String> fields);
+
+    // filter 에 맞는 북마크를 DB 안에서 관련도 계산 -> 정렬 -> 상위 limit 건만 반환 (토큰 필드 제외)
+    // words 는 정규화된 검색 단어, phrase 는 정규화된 검색어 전체
+    List<Bookmark> searchRanked(Criteria filter, List<String> words, String phrase, int limit);
+
+    // 사용자 북마크 전체를 커서로 스트리밍 (사용 후 반드시 close)
+    Stream<Bookmark> streamByUserId(String userId);
+
+    // {_id, userId} 조건으로 변경 필드만 원자적으로 갱신하고 갱신 전 문서 반환 (없거나 소유자가 다르면 null)
+    Bookmark updateOwned(String userId, String bookmarkId, Update update);
+
+    // {_id, userId} 와 expected 조건이 모두 맞을 때만 갱신 (다른 요청이 먼저 바꿨으면 false)
+    boolean updateOwnedIfMatches(String userId, String bookmarkId, Criteria expected, Update update);
+
+    // 즐겨찾기 여부를 서버에서 반전 (읽기 없이 한 번의 findAndModify). 갱신 후 문서 반환
+    Bookmark toggleFavoriteOwned(String userId, String bookmarkId);
+
+    // {_id, userId} 조건으로 삭제하고 삭제된 문서 반환 (없거나 소유자가 다르면 null)
+    Bookmark deleteOwned(String userId, String bookmarkId);
+
+    // 요청한 ID 중 사용자 소유인 것만 반환 (_id 만 조회)
+    List<String> findOwnedIds(String userId, Collection<String> bookmarkIds);
+
+    // {_id $in, userId} 조건으로 한 번에 갱신. 수정된 문서 수 반환
+    long updateOwnedMany(String userId, Collection<String> bookmarkIds, Update update);
+
+    // 태그가 없는 북마크에만 태그 ID 와 사본을 함께 추가
+    long addTagOwnedMany(String userId, Collection<String> bookmarkIds, TagSnapshot tag);
+
+    // 태그 ID 와 사본을 함께 제거
+    long removeTagOwnedMany(String userId, Collection<String> bookmarkIds, String tagId);
+
+    // {_id $in, userId} 조건으로 한 번에 삭제. 삭제된 문서 수 반환
+    long deleteOwnedMany(String userId, Collection<String> bookmarkIds);
+
+    // 북마크마다 다른 즐겨찾기 값을 하나의 벌크 쓰기로 반영
+    void setFavoritesOwned(String userId, Map<String, Boolean> favorites);
+
+    // 사용자 북마크의 urlHash 만 커서로 스트리밍 (사용 후 반드시 close)
+    Stream<Bookmark> streamUrlHashesByUserId(String userId);
+
+    // 주어진 북마크들의 urlHash 만 조회
+    List<String> findUrlHashesByIds(String userId, Collection<String> bookmarkIds);
+
+    // urlHash 인덱스로 사용자 북마크 조회 (_id, url, urlHash 만)
+    List<Bookmark> findByUrlHashes(String userId, Collection<String> urlHashes);
+
+    // 사용자 북마크의 태그별 개수 ($unwind/$group 집계). 태그 ID -> 북마크 수
+    Map<String, Long> countByTag(String userId);
+
+    // 순서 없는(unordered) 벌크 insert. 일부 문서가 실패해도 나머지는 저장되며 저장된 건수 반환
+    int insertUnordered(List<Bookmark> bookmarks);
+}
@@ -0,0 +1,274 @@
+package com.bookmarkservice.bookmark.repository;
+
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.common.pagination.KeysetCursor;
+import com.bookmarkservice.tag.entity.TagSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.BooleanOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class BookmarkRepositoryCustomImpl implements BookmarkRepositoryCustom {
+
+    private static final int STREAM_BATCH_SIZE = 500;
+    private static final long SEARCH_MAX_TIME_MS = 2000;
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double URL_WEIGHT = 1.5;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Bookmark> findPage(Criteria filter, KeysetCursor cursor, int limit) {
+        return mongoTemplate.find(KeysetCursor.pageQuery(filter, cursor, limit), Bookmark.class);
+    }
+
+    @Override
+    public List<Bookmark> findPage(Criteria filter, KeysetCursor cursor, int limit, Collection<String> fields) {
+        return mongoTemplate.find(project(KeysetCursor.pageQuery(filter, cursor, limit), fields), Bookmark.class);
+    }
+
+    @Override
+    public List<Bookmark> findList(Criteria filter, Collection<String> fields) {
+        Query query = new Query(filter).with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"));
+        return mongoTemplate.find(project(query, fields), Bookmark.class);
+    }
+
+    // 관련도: 모든 단어가 어딘가에 포함되어야 하며 제목 > URL > 설명 순으로 가중치, 검색어 전체가 제목에 있으면 가산
+    // 후보 전체를 DB 에서 점수 매기고 $sort + $limit 으로 상위 N 건만 유지 (후보 수 상한으로 오래된 문서가 빠지지 않음)
+    @Override
+    public List<Bookmark> searchRanked(Criteria filter, List<String> words, String phrase, int limit) {
+        List<Object> wordScores = words.stream()
+                .map(word -> (Object) new Document("$add", List.of(
+                        weightIfContains("$rankTitle", word, TITLE_WEIGHT),
+                        weightIfContains("$rankUrl", word, URL_WEIGHT),
+                        weightIfContains("$rankDescription", word, DESCRIPTION_WEIGHT))))
+                .toList();
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(filter),
+                Aggregation.stage(new Document("$addFields", new Document()
+                        .append("rankTitle", lowerOrEmpty("$title"))
+                        .append("rankUrl", lowerOrEmpty("$url"))
+                        .append("rankDescription", lowerOrEmpty("$description")))),
+                Aggregation.stage(new Document("$addFields", new Document("rankWordScores", wordScores))),
+                // 포함되지 않은 단어가 하나라도 있으면 0점
+                Aggregation.stage(new Document("$addFields", new Document("rankScore", new Document("$cond", List.of(
+                        new Document("$in", List.of(0, "$rankWordScores")),
+                        0,
+                        new Document("$add", List.of(
+                                new Document("$sum", "$rankWordScores"),
+                                weightIfContains("$rankTitle", phrase, TITLE_WEIGHT)))))))),
+                Aggregation.match(Criteria.where("rankScore").gt(0)),
+                Aggregation.stage(new Document("$sort", new Document()
+                        .append("rankScore", -1)
+                        .append("createdAt", -1)
+                        .append("_id", -1))),
+                Aggregation.limit(limit),
+                Aggregation.stage(new Document("$project", new Document()
+                        .append("searchTokens", 0)
+                        .append("rankTitle", 0)
+                        .append("rankUrl", 0)
+                        .append("rankDescription", 0)
+                        .append("rankWordScores", 0)
+                        .append("rankScore", 0)))
+        ).withOptions(AggregationOptions.builder()
+                .maxTime(Duration.ofMillis(SEARCH_MAX_TIME_MS))
+                .build());
+
+        return mongoTemplate.aggregate(aggregation, Bookmark.class, Bookmark.class).getMappedResults();
+    }
+
+    private static Document lowerOrEmpty(String field) {
+        return new Document("$toLower", new Document("$ifNull", List.of(field, "")));
+    }
+
+    private static Document weightIfContains(String field, String value, double weight) {
+        return new Document("$cond", List.of(
+                new Document("$gte", List.of(new Document("$indexOfCP", List.of(field, value)), 0)),
+                weight,
+                0));
+    }
+
+    @Override
+    public Stream<Bookmark> streamByUserId(String userId) {
+        Query query = new Query(Criteria.where("userId").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+
+        return mongoTemplate.stream(query, Bookmark.class);
+    }
+
+    @Override
+    public Bookmark updateOwned(String userId, String bookmarkId, Update update) {
+        return findAndModifyOwned(userId, bookmarkId, update, false);
+    }
+
+    @Override
+    public boolean updateOwnedIfMatches(String userId, String bookmarkId, Criteria expected, Update update) {
+        Query query = ownedQuery(userId, bookmarkId).addCriteria(expected);
+        return mongoTemplate.updateFirst(query, update, Bookmark.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public Bookmark toggleFavoriteOwned(String userId, String bookmarkId) {
+        // favorite 는 boolean 이라 $bit 대신 파이프라인 업데이트의 $not 으로 반전
+        AggregationUpdate toggle = AggregationUpdate.update()
+                .set("favorite").toValue(BooleanOperators.Not.not("favorite"));
+        return findAndModifyOwned(userId, bookmarkId, toggle, true);
+    }
+
+    @Override
+    public Bookmark deleteOwned(String userId, String bookmarkId) {
+        Query query = ownedQuery(userId, bookmarkId);
+        query.fields().include("tagIds");
+
+        return mongoTemplate.findAndRemove(query, Bookmark.class);
+    }
+
+    @Override
+    public List<String> findOwnedIds(String userId, Collection<String> bookmarkIds) {
+        Query query = new Query(Criteria.where("_id").in(bookmarkIds).and("userId").is(userId));
+        query.fields().include("_id");
+
+        return mongoTemplate.find(query, Bookmark.class).stream().map(Bookmark::getId).toList();
+    }
+
+    @Override
+    public long updateOwnedMany(String userId, Collection<String> bookmarkIds, Update update) {
+        Query query = new Query(Criteria.where("_id").in(bookmarkIds).and("userId").is(userId));
+        return mongoTemplate.updateMulti(query, update, Bookmark.class).getModifiedCount();
+    }
+
+    @Override
+    public long addTagOwnedMany(String userId, Collection<String> bookmarkIds, TagSnapshot tag) {
+        Query query = new Query(Criteria.where("_id").in(bookmarkIds).and("userId").is(userId).and("tagIds").ne(tag.getTagId()));
+        Update update = new Update().push("tagIds", tag.getTagId()).push("tags", tag);
+        return mongoTemplate.updateMulti(query, update, Bookmark.class).getModifiedCount();
+    }
+
+    @Override
+    public long removeTagOwnedMany(String userId, Collection<String> bookmarkIds, String tagId) {
+        Query query = new Query(Criteria.where("_id").in(bookmarkIds).and("userId").is(userId));
+        Update update = new Update()
+                .pull("tagIds", tagId)
+                .pull("tags", new Document("tagId", tagId));
+        return mongoTemplate.updateMulti(query, update, Bookmark.class).getModifiedCount();
+    }
+
+    @Override
+    public long deleteOwnedMany(String userId, Collection<String> bookmarkIds) {
+        Query query = new Query(Criteria.where("_id").in(bookmarkIds).and("userId").is(userId));
+        return mongoTemplate.remove(query, Bookmark.class).getDeletedCount();
+    }
+
+    @Override
+    public void setFavoritesOwned(String userId, Map<String, Boolean> favorites) {
+        if (favorites.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bookmark.class);
+        favorites.forEach((bookmarkId, favorite) ->
+                bulk.updateOne(ownedQuery(userId, bookmarkId), Update.update("favorite", favorite)));
+        bulk.execute();
+    }
+
+    @Override
+    public Stream<Bookmark> streamUrlHashesByUserId(String userId) {
+        Query query = new Query(Criteria.where("userId").is(userId)).cursorBatchSize(STREAM_BATCH_SIZE);
+        query.fields().include("urlHash");
+
+        return mongoTemplate.stream(query, Bookmark.class);
+    }
+
+    @Override
+    public List<String> findUrlHashesByIds(String userId, Collection<String> bookmarkIds) {
+        Query query = new Query(Criteria.where("_id").in(bookmarkIds).and("userId").is(userId));
+        query.fields().include("urlHash");
+
+        return mongoTemplate.find(query, Bookmark.class).stream()
+                .map(Bookmark::getUrlHash)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Bookmark> findByUrlHashes(String userId, Collection<String> urlHashes) {
+        Query query = new Query(Criteria.where("userId").is(userId).and("urlHash").in(urlHashes));
+        query.fields().include("url", "urlHash");
+
+        return mongoTemplate.find(query, Bookmark.class);
+    }
+
+    @Override
+    public Map<String, Long> countByTag(String userId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(userId)),
+                Aggregation.project("tagIds"),
+                Aggregation.unwind("tagIds"),
+                Aggregation.group("tagIds").count().as("count")
+        );
+
+        Map<String, Long> counts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, Bookmark.class, Document.class).forEach(doc ->
+                counts.put(doc.getString("_id"), doc.get("count", Number.class).longValue()));
+        return counts;
+    }
+
+    @Override
+    public int insertUnordered(List<Bookmark> bookmarks) {
+        if (bookmarks.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bookmark.class)
+                    .insert(bookmarks)
+                    .execute()
+                    .getInsertedCount();
+        } catch (BulkOperationException e) {
+            return e.getResult().getInsertedCount();
+        }
+    }
+
+    private Bookmark findAndModifyOwned(String userId, String bookmarkId, UpdateDefinition update, boolean returnNew) {
+        Query query = ownedQuery(userId, bookmarkId);
+        query.fields().exclude("searchTokens");
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(returnNew), Bookmark.class);
+    }
+
+    private Query project(Query query, Collection<String> fields) {
+        if (fields == null) {
+            query.fields().exclude("searchTokens");
+        } else {
+            fields.forEach(field -> query.fields().include(field));
+        }
+        return query;
+    }
+
+    private Query ownedQuery(String userId, String bookmarkId) {
+        return Query.query(Criteria.where("_id").is(bookmarkId).and("userId").is(userId));
+    }
+}
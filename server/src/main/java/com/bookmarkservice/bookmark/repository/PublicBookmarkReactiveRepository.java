@@ -0,0 +1,7 @@
+package com.bookmarkservice.bookmark.repository;
+
+import com.bookmarkservice.bookmark.entity.PublicBookmark;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface PublicBookmarkReactiveRepository extends ReactiveMongoRepository<PublicBookmark, String> {
+}
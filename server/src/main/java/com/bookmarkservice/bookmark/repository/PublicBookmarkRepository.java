@@ -0,0 +1,14 @@
+package com.bookmarkservice.bookmark.repository;
+
+import com.bookmarkservice.bookmark.entity.PublicBookmark;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface PublicBookmarkRepository extends MongoRepository<PublicBookmark, String>, PublicBookmarkRepositoryCustom {
+    List<PublicBookmark> findByUserId(String userId);
+
+    // 전체 문서를 커서로 스트리밍 (사용 후 반드시 close)
+    Stream<PublicBookmark> streamAllBy();
+}
@@ -0,0 +1,12 @@
+package com.bookmarkservice.bookmark.repository;
+
+import com.bookmarkservice.bookmark.entity.PublicBookmark;
+import com.bookmarkservice.common.pagination.KeysetCursor;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.List;
+
+public interface PublicBookmarkRepositoryCustom {
+    // (createdAt desc, _id desc) 키셋 페이지 조회. cursor 가 null 이면 첫 페이지
+    List<PublicBookmark> findPage(Criteria filter, KeysetCursor cursor, int limit);
+}
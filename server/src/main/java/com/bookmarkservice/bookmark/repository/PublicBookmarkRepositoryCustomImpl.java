@@ -0,0 +1,20 @@
+package com.bookmarkservice.bookmark.repository;
+
+import com.bookmarkservice.bookmark.entity.PublicBookmark;
+import com.bookmarkservice.common.pagination.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PublicBookmarkRepositoryCustomImpl implements PublicBookmarkRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<PublicBookmark> findPage(Criteria filter, KeysetCursor cursor, int limit) {
+        return mongoTemplate.find(KeysetCursor.pageQuery(filter, cursor, limit), PublicBookmark.class);
+    }
+}
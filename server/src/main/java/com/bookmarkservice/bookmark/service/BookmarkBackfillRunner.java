@@ -0,0 +1,43 @@
+package com.bookmarkservice.bookmark.service;
+
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.common.mongo.MongoBackfill;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기존 북마크 문서에 새로 추가된 파생 필드(검색 토큰, URL 해시)를 채워 넣는 기동 시 작업
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkBackfillRunner implements ApplicationRunner {
+
+    private final MongoBackfill mongoBackfill;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            long searchTokens = mongoBackfill.backfill(Bookmark.class, Criteria.where("searchTokens").exists(false),
+                    List.of("title", "description", "url"),
+                    b -> Update.update("searchTokens", BookmarkSearchTokenizer.tokensOf(b.getTitle(), b.getDescription(), b.getUrl())));
+            if (searchTokens > 0) {
+                log.info("북마크 검색 토큰 채우기 완료: {}건", searchTokens);
+            }
+
+            long urlHashes = mongoBackfill.backfill(Bookmark.class, Criteria.where("urlHash").exists(false),
+                    List.of("url"),
+                    b -> Update.update("urlHash", BookmarkUrlNormalizer.hash(b.getUrl())));
+            if (urlHashes > 0) {
+                log.info("북마크 URL 해시 채우기 완료: {}건", urlHashes);
+            }
+        } catch (Exception e) {
+            log.error("북마크 파생 필드 채우기 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.bookmarkservice.bookmark.service;
+
+import com.bookmarkservice.bookmark.dto.BookmarkBulkAction;
+import com.bookmarkservice.bookmark.dto.BookmarkBulkRequestDto;
+import com.bookmarkservice.bookmark.dto.BookmarkBulkResultDto;
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.bookmark.repository.BookmarkRepository;
+import com.bookmarkservice.common.exception.BadRequestException;
+import com.bookmarkservice.tag.dto.TagResponseDto;
+import com.bookmarkservice.tag.entity.TagSnapshot;
+import com.bookmarkservice.tag.service.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 여러 북마크에 같은 작업을 한 번의 updateMany/deleteMany (값이 다르면 벌크 쓰기) 로 적용
+@Service
+@RequiredArgsConstructor
+public class BookmarkBulkService {
+
+    private static final int MAX_BULK_SIZE = 1000;
+
+    private final BookmarkRepository bookmarkRepository;
+    private final TagService tagService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookmarkBulkResultDto execute(String userId, BookmarkBulkRequestDto dto) {
+        BookmarkBulkAction action = BookmarkBulkAction.from(dto.getAction());
+        Set<String> requestedIds = requestedIds(action, dto);
+
+        // 소유 여부를 한 번에 확인해 항목별 결과를 만들고, 쓰기는 소유한 북마크에만 적용
+        Set<String> ownedIds = new HashSet<>(bookmarkRepository.findOwnedIds(userId, requestedIds));
+        if (!ownedIds.isEmpty()) {
+            Map<String, Integer> tagDeltas = apply(userId, action, dto, ownedIds);
+            eventPublisher.publishEvent(new BookmarksChangedEvent(userId, List.copyOf(ownedIds), tagDeltas));
+        }
+
+        List<BookmarkBulkResultDto.ItemResult> results = requestedIds.stream()
+                .map(id -> new BookmarkBulkResultDto.ItemResult(id, ownedIds.contains(id)
+                        ? BookmarkBulkResultDto.Status.OK
+                        : BookmarkBulkResultDto.Status.NOT_FOUND))
+                .toList();
+
+        return new BookmarkBulkResultDto(action.name(), requestedIds.size(), ownedIds.size(), results);
+    }
+
+    // 적용 후 태그별 사용 수 변화량 반환 (알 수 없으면 null)
+    private Map<String, Integer> apply(String userId, BookmarkBulkAction action, BookmarkBulkRequestDto dto, Set<String> ownedIds) {
+        switch (action) {
+            case DELETE -> {
+                bookmarkRepository.deleteOwnedMany(userId, ownedIds);
+                return null;
+            }
+            case FAVORITE -> bookmarkRepository.updateOwnedMany(userId, ownedIds, Update.update("favorite", true));
+            case UNFAVORITE -> bookmarkRepository.updateOwnedMany(userId, ownedIds, Update.update("favorite", false));
+            case ADD_TAG -> {
+                TagResponseDto tag = tagService.resolveTagsFromNames(List.of(requireTagName(dto)), userId).getTags().get(0);
+                long added = bookmarkRepository.addTagOwnedMany(userId, ownedIds, new TagSnapshot(tag.getId(), tag.getName()));
+                return Map.of(tag.getId(), (int) added);
+            }
+            case REMOVE_TAG -> {
+                Optional<String> tagId = tagService.findTagIdByName(userId, requireTagName(dto));
+                if (tagId.isPresent()) {
+                    long removed = bookmarkRepository.removeTagOwnedMany(userId, ownedIds, tagId.get());
+                    return Map.of(tagId.get(), (int) -removed);
+                }
+            }
+            case SET_FAVORITE -> {
+                Map<String, Boolean> favorites = new LinkedHashMap<>();
+                dto.getFavorites().forEach((id, favorite) -> {
+                    if (ownedIds.contains(id)) {
+                        favorites.put(id, Boolean.TRUE.equals(favorite));
+                    }
+                });
+                bookmarkRepository.setFavoritesOwned(userId, favorites);
+            }
+        }
+        return Map.of();
+    }
+
+    private Set<String> requestedIds(BookmarkBulkAction action, BookmarkBulkRequestDto dto) {
+        Set<String> ids = new LinkedHashSet<>();
+        if (action == BookmarkBulkAction.SET_FAVORITE) {
+            if (dto.getFavorites() != null) {
+                ids.addAll(dto.getFavorites().keySet());
+            }
+        } else if (dto.getIds() != null) {
+            ids.addAll(dto.getIds());
+        }
+
+        if (ids.isEmpty()) {
+            throw new BadRequestException("일괄 작업할 북마크가 없습니다.");
+        }
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("일괄 작업은 최대 " + MAX_BULK_SIZE + "개까지 가능합니다.");
+        }
+        return ids;
+    }
+
+    private String requireTagName(BookmarkBulkRequestDto dto) {
+        if (dto.getTagName() == null || dto.getTagName().isBlank()) {
+            throw new BadRequestException("태그 이름이 필요합니다.");
+        }
+        return dto.getTagName();
+    }
+}
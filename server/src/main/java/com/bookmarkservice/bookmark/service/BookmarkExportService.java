@@ -0,0 +1,87 @@
+package com.bookmarkservice.bookmark.service;
+
+import com.bookmarkservice.bookmark.dto.BookmarkExportDto;
+import com.bookmarkservice.bookmark.dto.BookmarkExportFormat;
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.repository.BookmarkRepository;
+import com.bookmarkservice.tag.entity.Tag;
+import com.bookmarkservice.tag.repository.TagRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final BookmarkRepository bookmarkRepository;
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+
+    // Mongo 커서에서 한 건씩 읽어 바로 출력 스트림에 기록 (북마크 수와 무관하게 힙 사용량 일정)
+    public void export(String userId, BookmarkExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        // 요청 단위 태그 사전 (tagId -> 이름), 문서마다 태그를 조회하지 않음
+        Map<String, String> tagNames = tagRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .collect(Collectors.toMap(Tag::getId, Tag::getName));
+
+        OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+        long count = 0;
+
+        try (Stream<Bookmark> bookmarks = bookmarkRepository.streamByUserId(userId);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            // 기본 루트 값 구분자(공백) 제거: NDJSON 두 번째 줄부터 공백으로 시작하지 않도록
+            generator.setRootValueSeparator(null);
+            if (format == BookmarkExportFormat.JSON) {
+                generator.writeStartArray();
+            }
+
+            Iterator<Bookmark> it = bookmarks.iterator();
+            while (it.hasNext()) {
+                generator.writeObject(toExportDto(it.next(), tagNames));
+                if (format == BookmarkExportFormat.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+
+            if (format == BookmarkExportFormat.JSON) {
+                generator.writeEndArray();
+            }
+        }
+
+        log.debug("북마크 내보내기 완료: userId={}, 건수={}", userId, count);
+    }
+
+    private BookmarkExportDto toExportDto(Bookmark bookmark, Map<String, String> tagNames) {
+        List<String> tags = bookmark.getTagIds() == null ? List.of() : bookmark.getTagIds().stream()
+                .map(tagNames::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new BookmarkExportDto(
+                bookmark.getUrl(),
+                bookmark.getTitle(),
+                bookmark.getDescription(),
+                bookmark.isFavorite(),
+                bookmark.getCreatedAt(),
+                tags
+        );
+    }
+}
@@ -0,0 +1,175 @@
+package com.bookmarkservice.bookmark.service;
+
+import com.bookmarkservice.bookmark.dto.BookmarkImportResultDto;
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.bookmark.repository.BookmarkRepository;
+import com.bookmarkservice.common.exception.BadRequestException;
+import com.bookmarkservice.tag.entity.TagSnapshot;
+import com.bookmarkservice.tag.service.TagService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkImportService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BookmarkRepository bookmarkRepository;
+    private final TagService tagService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookmarkImportResultDto importNetscapeHtml(String userId, MultipartFile file) {
+        return importNetscapeHtml(userId, file, progress -> { });
+    }
+
+    // 진행 상황 스냅샷을 배치마다 한 줄씩 NDJSON 으로 기록 (마지막 줄이 완료 결과)
+    public void importNetscapeHtml(String userId, MultipartFile file, OutputStream out) {
+        importNetscapeHtml(userId, file, progress -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(progress));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // 브라우저 북마크 HTML 파일을 스트리밍으로 파싱해 고정 크기 배치 단위로 벌크 저장
+    // 먼저 태그 이름만 모으는 파싱으로 업로드 전체의 없는 태그를 한 번에 만든 뒤, 다시 파싱하며 저장
+    // progressListener 에는 배치마다 진행 상황, 마지막에 완료 결과가 전달됨
+    public BookmarkImportResultDto importNetscapeHtml(String userId, MultipartFile file,
+                                                      Consumer<BookmarkImportResultDto> progressListener) {
+        Set<String> tagNames = new LinkedHashSet<>();
+        parse(file, bookmark -> tagNames.addAll(bookmark.getTagNames()));
+
+        ImportSession session = new ImportSession(userId, tagNames, progressListener);
+        parse(file, session::add);
+        session.flush();
+        if (session.imported > 0) {
+            eventPublisher.publishEvent(new BookmarksChangedEvent(userId, null));
+        }
+
+        BookmarkImportResultDto result = session.snapshot(true);
+        progressListener.accept(result);
+        log.info("북마크 가져오기 완료: userId={}, 파싱={}, 저장={}, 실패={}, {}ms, {}건/s",
+                userId, result.getParsed(), result.getImported(), result.getFailed(),
+                result.getElapsedMillis(), String.format("%.1f", result.getBookmarksPerSecond()));
+        return result;
+    }
+
+    private static void parse(MultipartFile file, Consumer<NetscapeBookmarkParser.ParsedBookmark> sink) {
+        try (InputStream in = file.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            new NetscapeBookmarkParser(reader, sink).parse();
+        } catch (IOException e) {
+            throw new BadRequestException("북마크 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    private class ImportSession {
+        private final String userId;
+        private final Consumer<BookmarkImportResultDto> progressListener;
+        private final long startedAt = System.nanoTime();
+        private final Map<String, TagSnapshot> tagsByName; // nameKey -> 태그 사본, 업로드 전체의 태그를 미리 채움
+        private final int createdTagCount;
+        private final List<NetscapeBookmarkParser.ParsedBookmark> buffer = new ArrayList<>(BATCH_SIZE);
+
+        private long parsed;
+        private long imported;
+        private long failed;
+        private int batches;
+
+        ImportSession(String userId, Set<String> tagNames, Consumer<BookmarkImportResultDto> progressListener) {
+            this.userId = userId;
+            this.progressListener = progressListener;
+            this.tagsByName = tagService.findTagsByName(userId);
+            int initialTagCount = tagsByName.size();
+            tagService.createMissingTags(userId, tagNames, tagsByName);
+            this.createdTagCount = tagsByName.size() - initialTagCount;
+        }
+
+        void add(NetscapeBookmarkParser.ParsedBookmark bookmark) {
+            parsed++;
+            buffer.add(bookmark);
+            if (buffer.size() >= BATCH_SIZE) {
+                flush();
+                progressListener.accept(snapshot(false));
+            }
+        }
+
+        void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Bookmark> bookmarks = buffer.stream()
+                    .map(b -> {
+                        List<TagSnapshot> tags = tagsOf(b);
+                        return Bookmark.builder()
+                                .userId(userId)
+                                .url(b.getUrl())
+                                .title(b.getTitle())
+                                .description(b.getDescription())
+                                .favorite(false)
+                                .tagIds(tags.stream().map(TagSnapshot::getTagId).toList())
+                                .tags(tags)
+                                .createdAt(b.getAddedAt() != null ? b.getAddedAt() : now)
+                                .searchTokens(BookmarkSearchTokenizer.tokensOf(b.getTitle(), b.getDescription(), b.getUrl()))
+                                .urlHash(BookmarkUrlNormalizer.hash(b.getUrl()))
+                                .build();
+                    })
+                    .toList();
+
+            int inserted = bookmarkRepository.insertUnordered(bookmarks);
+            imported += inserted;
+            failed += bookmarks.size() - inserted;
+            batches++;
+            buffer.clear();
+
+            log.debug("북마크 가져오기 진행: userId={}, 배치={}, 저장={}", userId, batches, imported);
+        }
+
+        // 대소문자만 다른 폴더/태그 이름은 같은 태그 하나로 합침
+        private List<TagSnapshot> tagsOf(NetscapeBookmarkParser.ParsedBookmark bookmark) {
+            Map<String, TagSnapshot> tags = new LinkedHashMap<>();
+            bookmark.getTagNames().forEach(name -> {
+                TagSnapshot tag = tagsByName.get(TagService.nameKey(name));
+                tags.putIfAbsent(tag.getTagId(), tag);
+            });
+            return List.copyOf(tags.values());
+        }
+
+        BookmarkImportResultDto snapshot(boolean completed) {
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            double perSecond = elapsedMillis == 0 ? imported : imported * 1000.0 / elapsedMillis;
+            return new BookmarkImportResultDto(completed, parsed, imported, failed, batches,
+                    createdTagCount, elapsedMillis, perSecond);
+        }
+    }
+}
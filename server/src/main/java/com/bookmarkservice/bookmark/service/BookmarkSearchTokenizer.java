@@ -0,0 +1,67 @@
+package com.bookmarkservice.bookmark.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// 북마크 검색용 토큰(바이그램) 생성기
+// 한글은 띄어쓰기만으로 단어를 나누기 어려워, 단어마다 2글자 조각을 색인해 부분 일치 검색을 인덱스로 처리
+public final class BookmarkSearchTokenizer {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_DESCRIPTION_LENGTH = 1000; // 긴 설명은 앞부분만 색인
+
+    private BookmarkSearchTokenizer() {
+    }
+
+    // 저장용 토큰: 제목, 설명, URL 의 바이그램 (중복 제거)
+    public static List<String> tokensOf(String title, String description, String url) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addBigrams(tokens, title);
+        addBigrams(tokens, truncate(description));
+        addBigrams(tokens, url);
+        return new ArrayList<>(tokens);
+    }
+
+    // 검색어 토큰: 모두 포함($all)하는 문서만 후보. 1글자 단어만 있으면 빈 목록
+    public static List<String> queryTokensOf(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addBigrams(tokens, keyword);
+        return new ArrayList<>(tokens);
+    }
+
+    // 정규화 후 단어 단위로 분리 (소문자, 전각/호환 문자 통일)
+    public static List<String> wordsOf(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(WORD_SEPARATOR.split(normalize(text)))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void addBigrams(Set<String> tokens, String text) {
+        for (String word : wordsOf(text)) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+    }
+
+    private static String truncate(String text) {
+        if (text == null || text.length() <= MAX_DESCRIPTION_LENGTH) {
+            return text;
+        }
+        return text.substring(0, MAX_DESCRIPTION_LENGTH);
+    }
+}
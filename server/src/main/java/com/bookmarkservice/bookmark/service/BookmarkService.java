@@ -1,22 +1,34 @@
 package com.bookmarkservice.bookmark.service;
 
+import com.bookmarkservice.bookmark.dto.BookmarkPatchRequestDto;
 import com.bookmarkservice.bookmark.dto.BookmarkRequestDto;
 import com.bookmarkservice.bookmark.dto.BookmarkResponseDto;
 import com.bookmarkservice.bookmark.dto.BookmarkUpdateRequestDto;
 import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.entity.PublicBookmark;
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
 import com.bookmarkservice.bookmark.repository.BookmarkRepository;
+import com.bookmarkservice.bookmark.repository.PublicBookmarkRepository;
+import com.bookmarkservice.common.dto.CursorPageResponseDto;
+import com.bookmarkservice.common.exception.BadRequestException;
+import com.bookmarkservice.common.fields.FieldSelection;
+import com.bookmarkservice.common.pagination.KeysetCursor;
 import com.bookmarkservice.tag.dto.TagResponseDto;
 import com.bookmarkservice.common.exception.NotFoundException;
 import com.bookmarkservice.tag.dto.ResolvedTagsDto;
-import com.bookmarkservice.tag.repository.TagRepository;
 import com.bookmarkservice.tag.service.TagService;
-import com.bookmarkservice.category.repository.CategoryRepository;
-import com.bookmarkservice.category.entity.Category;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -24,10 +36,23 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class BookmarkService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_LIMIT = 200;
+    // 응답 필드별로 읽어야 하는 문서 필드 (_id 는 항상 포함)
+    private static final Map<String, List<String>> DOCUMENT_FIELDS = Map.of(
+            "id", List.of(),
+            "url", List.of("url"),
+            "title", List.of("title"),
+            "description", List.of("description"),
+            "favorite", List.of("favorite"),
+            "createdAt", List.of("createdAt"),
+            "tagNames", List.of("tagIds", "tags")
+    );
+
     private final BookmarkRepository bookmarkRepository;
     private final TagService tagService;
-    private final TagRepository tagRepository;
-    private final CategoryRepository categoryRepository;
+    private final PublicBookmarkRepository publicBookmarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public BookmarkResponseDto createBookmark(String userId, BookmarkRequestDto dto) {
         ResolvedTagsDto resolvedTags = tagService.resolveTagsFromNames(dto.getTagNames(), userId);
@@ -38,126 +63,293 @@ public class BookmarkService {
                 .description(dto.getDescription())
                 .favorite(dto.isFavorite())
                 .tagIds(resolvedTags.getTagIds())
+                .tags(tagService.toSnapshots(resolvedTags.getTags()))
                 .createdAt(LocalDateTime.now())
+                .searchTokens(BookmarkSearchTokenizer.tokensOf(dto.getTitle(), dto.getDescription(), dto.getUrl()))
+                .urlHash(BookmarkUrlNormalizer.hash(dto.getUrl()))
                 .build();
 
         bookmarkRepository.save(bookmark);
+        eventPublisher.publishEvent(new BookmarksChangedEvent(userId, List.of(bookmark.getId()),
+                BookmarksChangedEvent.tagDeltas(null, bookmark.getTagIds())));
 
         return new BookmarkResponseDto(bookmark, resolvedTags.getTags());
     }
 
-    public List<BookmarkResponseDto> getAllBookmarks(String userId) {
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserId(userId);
+    public List<BookmarkResponseDto> getAllBookmarks(String userId, FieldSelection fields) {
+        return getList(Criteria.where("userId").is(userId), fields);
+    }
 
-        return bookmarks.stream()
-                .map(b -> new BookmarkResponseDto(
-                        b,
-                        tagService.findTagsByIds(b.getTagIds())
-                ))
-                .collect(Collectors.toList());
+    public List<BookmarkResponseDto> getBookmarksByTagIds(String userId, List<String> tagIds, FieldSelection fields) {
+        return getList(Criteria.where("userId").is(userId).and("tagIds").in(tagIds), fields);
+    }
+
+    public List<BookmarkResponseDto> getFavoriteBookmarks(String userId, FieldSelection fields) {
+        return getList(Criteria.where("userId").is(userId).and("favorite").is(true), fields);
+    }
+
+    // 선택한 필드만 projection 으로 조회하고, 태그를 선택하지 않으면 태그 조회 생략
+    private List<BookmarkResponseDto> getList(Criteria filter, FieldSelection fields) {
+        List<Bookmark> bookmarks = bookmarkRepository.findList(filter, documentFields(fields));
+        return toResponseDtos(bookmarks, fields);
+    }
+
+    // 제목/설명/URL 토큰 인덱스로 후보를 좁히고 DB 에서 관련도 순으로 정렬
+    public List<BookmarkResponseDto> searchBookmarks(String userId, String keyword, int limit) {
+        List<String> words = BookmarkSearchTokenizer.wordsOf(keyword);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        Criteria filter = searchFilter(userId, keyword);
+
+        String phrase = BookmarkSearchTokenizer.normalize(keyword).trim();
+        List<Bookmark> ranked = bookmarkRepository.searchRanked(filter, words, phrase,
+                Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT)));
+
+        return toResponseDtos(ranked);
+    }
+
+    public CursorPageResponseDto<BookmarkResponseDto> getAllBookmarksPage(String userId, String cursor, int size, FieldSelection fields) {
+        return getPage(Criteria.where("userId").is(userId), cursor, size, fields);
+    }
+
+    public CursorPageResponseDto<BookmarkResponseDto> getFavoriteBookmarksPage(String userId, String cursor, int size, FieldSelection fields) {
+        return getPage(Criteria.where("userId").is(userId).and("favorite").is(true), cursor, size, fields);
+    }
+
+    // 바이그램 $all 은 흩어진 바이그램에도 맞으므로 단어마다 제목/URL/설명 중 한 곳에 그대로 있는지 함께 확인
+    // (searchRanked 의 단어 포함 조건과 같음)
+    public CursorPageResponseDto<BookmarkResponseDto> searchBookmarksPage(String userId, String keyword, String cursor, int size) {
+        List<String> words = BookmarkSearchTokenizer.wordsOf(keyword);
+        if (words.isEmpty()) {
+            return toPage(List.of(), size);
+        }
+
+        List<Criteria> conditions = new ArrayList<>();
+        conditions.add(searchFilter(userId, keyword));
+        for (String word : words) {
+            String literal = Pattern.quote(word);
+            conditions.add(new Criteria().orOperator(
+                    Criteria.where("title").regex(literal, "i"),
+                    Criteria.where("url").regex(literal, "i"),
+                    Criteria.where("description").regex(literal, "i")));
+        }
+        return getPage(new Criteria().andOperator(conditions), cursor, size, FieldSelection.all());
+    }
+
+    // 토큰 인덱스 후보 조건 (1글자 검색어는 바이그램이 없어 제목 검색)
+    private Criteria searchFilter(String userId, String keyword) {
+        List<String> tokens = BookmarkSearchTokenizer.queryTokensOf(keyword);
+        return tokens.isEmpty()
+                ? Criteria.where("userId").is(userId).and("title").regex(Pattern.quote(keyword), "i")
+                : Criteria.where("userId").is(userId).and("searchTokens").all(tokens);
     }
 
+    public CursorPageResponseDto<BookmarkResponseDto> getBookmarksByTagIdsPage(String userId, List<String> tagIds, String cursor, int size,
+                                                                             FieldSelection fields) {
+        return getPage(Criteria.where("userId").is(userId).and("tagIds").in(tagIds), cursor, size, fields);
+    }
+
+    // 키셋 페이지 조회: size + 1 건을 읽어 다음 페이지 존재 여부 판단
+    private CursorPageResponseDto<BookmarkResponseDto> getPage(Criteria filter, String cursor, int size, FieldSelection fields) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Bookmark> bookmarks = bookmarkRepository.findPage(
+                filter, KeysetCursor.decode(cursor), pageSize + 1, documentFields(fields));
+        return toPage(bookmarks, pageSize, fields);
+    }
+
+    // 응답 필드 -> Mongo projection (createdAt 은 다음 커서 계산에 항상 필요)
+    private Set<String> documentFields(FieldSelection fields) {
+        return fields.documentFields(DOCUMENT_FIELDS, "createdAt");
+    }
+
+    // {_id, userId} 조건 갱신 결과가 없으면 존재하지 않거나 다른 사용자의 북마크
+    private void requireOwnedId(String userId, String bookmarkId) {
+        if (bookmarkRepository.findOwnedIds(userId, List.of(bookmarkId)).isEmpty()) {
+            throw new NotFoundException("북마크를 찾을 수 없습니다.");
+        }
+    }
+
+    private Bookmark requireOwned(Bookmark bookmark) {
+        if (bookmark == null) {
+            throw new NotFoundException("북마크를 찾을 수 없습니다.");
+        }
+        return bookmark;
+    }
+
+    // pageSize + 1 건 조회 결과로 다음 페이지 존재 여부와 커서 계산
+    private CursorPageResponseDto<BookmarkResponseDto> toPage(List<Bookmark> bookmarks, int pageSize) {
+        return toPage(bookmarks, pageSize, FieldSelection.all());
+    }
+
+    private CursorPageResponseDto<BookmarkResponseDto> toPage(List<Bookmark> bookmarks, int pageSize, FieldSelection fields) {
+        boolean hasNext = bookmarks.size() > pageSize;
+        List<Bookmark> page = hasNext ? bookmarks.subList(0, pageSize) : bookmarks;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Bookmark last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPageResponseDto<>(toResponseDtos(page, fields), nextCursor, hasNext);
+    }
 
-    public List<BookmarkResponseDto> getBookmarksByTagIds(String userId, List<String> tagIds) {
-        return bookmarkRepository.findByUserIdAndTagIdsInOrderByCreatedAtDesc(userId, tagIds)
+    // 공개 카테고리에 노출되는 북마크 (인증 불필요, 최신순 커서 페이지)
+    // 읽기 모델의 categoryIds 인덱스 한 번으로 조회
+    public CursorPageResponseDto<BookmarkResponseDto> getPublicCategoryBookmarksPage(String categoryId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Bookmark> bookmarks = publicBookmarkRepository
+                .findPage(Criteria.where("categoryIds").is(categoryId), KeysetCursor.decode(cursor), pageSize + 1)
                 .stream()
-                .map(b -> new BookmarkResponseDto(
-                        b,
-                        tagRepository.findAllById(b.getTagIds()).stream()
-                                .map(TagResponseDto::new)
-                                .toList()
-                ))
+                .map(PublicBookmark::toBookmark)
                 .toList();
-    }
 
-    public List<BookmarkResponseDto> getFavoriteBookmarks(String userId) {
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserIdAndFavoriteIsTrueOrderByCreatedAtDesc(userId);
+        return toPage(bookmarks, pageSize);
+    }
 
-        return bookmarks.stream()
-                .map(b -> new BookmarkResponseDto(
-                        b,
-                        tagService.findTagsByIds(b.getTagIds())
-                ))
-                .collect(Collectors.toList());
+    // 태그 하이드레이션: 결과 집합 전체의 태그를 한 번에 조회한 뒤 메모리 맵으로 DTO 구성
+    private List<BookmarkResponseDto> toResponseDtos(List<Bookmark> bookmarks, FieldSelection fields) {
+        if (!fields.includes("tagNames")) {
+            return bookmarks.stream().map(b -> new BookmarkResponseDto(b, null)).toList();
+        }
+        return toResponseDtos(bookmarks);
     }
 
-    public List<BookmarkResponseDto> searchBookmarks(String userId, String keyword) {
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserIdAndTitleContainingIgnoreCase(userId, keyword);
+    // 태그 사본이 없는 문서의 태그만 한 번에 조회 (사본이 있으면 조인 없음)
+    public List<BookmarkResponseDto> toResponseDtos(List<Bookmark> bookmarks) {
+        Set<String> tagIds = bookmarks.stream()
+                .filter(b -> b.getTags() == null && b.getTagIds() != null)
+                .flatMap(b -> b.getTagIds().stream())
+                .collect(Collectors.toSet());
+
+        return toResponseDtos(bookmarks, tagService.findTagMapByIds(tagIds));
+    }
 
+    public List<BookmarkResponseDto> toResponseDtos(List<Bookmark> bookmarks, Map<String, TagResponseDto> tagMap) {
         return bookmarks.stream()
-                .map(b -> new BookmarkResponseDto(
-                        b,
-                        tagService.findTagsByIds(b.getTagIds())
-                ))
-                .collect(Collectors.toList());
-    }
-
-    // 공개 카테고리 북마크 검색
-    public List<BookmarkResponseDto> searchPublicCategoryBookmarks(String keyword) {
-        // 1. 모든 공개 카테고리들 조회 (키워드 제한 없이)
-        List<Category> publicCategories = categoryRepository.findByIsPublicTrue();
-        
-        // 2. 공개 카테고리들의 태그 ID 수집
-        List<String> publicTagIds = publicCategories.stream()
-                .flatMap(category -> category.getTagIds().stream())
-                .distinct()
-                .collect(Collectors.toList());
-        
-        if (publicTagIds.isEmpty()) {
-            return List.of(); // 공개 카테고리가 없으면 빈 리스트 반환
-        }
-        
-        // 3. 공개 카테고리의 태그를 가진 모든 북마크 조회
-        List<Bookmark> publicCategoryBookmarks = bookmarkRepository.findByTagIdsInOrderByCreatedAtDesc(publicTagIds);
-
-        // 4. 키워드로 필터링 (제목, 설명, URL에서 검색)
-        return publicCategoryBookmarks.stream()
-                .filter(bookmark -> {
-                    String lowerKeyword = keyword.toLowerCase();
-                    return bookmark.getTitle().toLowerCase().contains(lowerKeyword) ||
-                           (bookmark.getDescription() != null && bookmark.getDescription().toLowerCase().contains(lowerKeyword)) ||
-                           bookmark.getUrl().toLowerCase().contains(lowerKeyword);
-                })
-                .map(b -> new BookmarkResponseDto(
-                        b,
-                        tagService.findTagsByIds(b.getTagIds())
-                ))
-                .collect(Collectors.toList());
+                .map(b -> new BookmarkResponseDto(b, tagService.tagsOf(b.getTags(), b.getTagIds(), tagMap)))
+                .toList();
     }
 
     public BookmarkResponseDto updateBookmark(String userId, String bookmarkId, BookmarkUpdateRequestDto dto) {
-        Bookmark bookmark = bookmarkRepository.findById(bookmarkId)
-                .filter(b -> b.getUserId().equals(userId))
-                .orElseThrow(() -> new NotFoundException("북마크를 찾을 수 없습니다."));
-
-        bookmark.setTitle(dto.getTitle());
-        bookmark.setUrl(dto.getUrl());
-        bookmark.setDescription(dto.getDescription());
-        bookmark.setFavorite(dto.isFavorite());
+        // 소유 확인과 본문 갱신을 한 번의 findAndModify 로 처리한 뒤에만 태그를 만들어 태그 필드만 다시 $set
+        // 남의 북마크 요청으로는 태그가 만들어지지 않음. 두 갱신 사이에 북마크가 삭제되면 새로 만든 태그가
+        // 남을 수 있고, 그 사이 읽기에는 새 본문과 이전 태그가 함께 보일 수 있음 (원자적이지 않음)
+        Update update = new Update()
+                .set("title", dto.getTitle())
+                .set("url", dto.getUrl())
+                .set("description", dto.getDescription())
+                .set("favorite", dto.isFavorite())
+                .set("searchTokens", BookmarkSearchTokenizer.tokensOf(dto.getTitle(), dto.getDescription(), dto.getUrl()))
+                .set("urlHash", BookmarkUrlNormalizer.hash(dto.getUrl()));
+        requireOwned(bookmarkRepository.updateOwned(userId, bookmarkId, update));
 
         ResolvedTagsDto tags = tagService.resolveTagsFromNames(dto.getTagNames(), userId);
-        bookmark.setTagIds(tags.getTagIds());
-
-        bookmarkRepository.save(bookmark);
+        Update tagUpdate = new Update()
+                .set("tagIds", tags.getTagIds())
+                .set("tags", tagService.toSnapshots(tags.getTags()));
+        Bookmark previous = requireOwned(bookmarkRepository.updateOwned(userId, bookmarkId, tagUpdate));
+        eventPublisher.publishEvent(new BookmarksChangedEvent(userId, List.of(bookmarkId),
+                BookmarksChangedEvent.tagDeltas(previous.getTagIds(), tags.getTagIds())));
 
+        Bookmark bookmark = Bookmark.builder()
+                .id(bookmarkId)
+                .userId(userId)
+                .url(dto.getUrl())
+                .title(dto.getTitle())
+                .description(dto.getDescription())
+                .favorite(dto.isFavorite())
+                .tagIds(tags.getTagIds())
+                .createdAt(previous.getCreatedAt())
+                .build();
         return new BookmarkResponseDto(bookmark, tags.getTags());
     }
 
-    public void toggleFavorite(String userId, String bookmarkId) {
-        Bookmark bookmark = bookmarkRepository.findById(bookmarkId)
-                .filter(b -> b.getUserId().equals(userId))
-                .orElseThrow(() -> new NotFoundException("북마크를 찾을 수 없습니다."));
+    // 요청에 포함된 필드만 $set 으로 원자적 갱신
+    public BookmarkResponseDto patchBookmark(String userId, String bookmarkId, BookmarkPatchRequestDto dto) {
+        Update update = new Update();
+        if (dto.getTitle() != null) {
+            update.set("title", dto.getTitle());
+        }
+        if (dto.getUrl() != null) {
+            update.set("url", dto.getUrl());
+            update.set("urlHash", BookmarkUrlNormalizer.hash(dto.getUrl()));
+        }
+        if (dto.getDescription() != null) {
+            update.set("description", dto.getDescription());
+        }
+        if (dto.getFavorite() != null) {
+            update.set("favorite", dto.getFavorite());
+        }
 
-        bookmark.setFavorite(!bookmark.isFavorite());
-        bookmarkRepository.save(bookmark);
+        List<TagResponseDto> tags = null;
+        if (dto.getTagNames() != null) {
+            requireOwnedId(userId, bookmarkId);
+            ResolvedTagsDto resolvedTags = tagService.resolveTagsFromNames(dto.getTagNames(), userId);
+            update.set("tagIds", resolvedTags.getTagIds());
+            update.set("tags", tagService.toSnapshots(resolvedTags.getTags()));
+            tags = resolvedTags.getTags();
+        }
+
+        if (update.getUpdateObject().isEmpty()) {
+            throw new BadRequestException("변경할 항목이 없습니다.");
+        }
+
+        // 텍스트 필드가 모두 오면 검색 토큰도 같은 요청에서 갱신, 일부만 오면 갱신 결과로 다시 계산
+        boolean allText = dto.getTitle() != null && dto.getUrl() != null && dto.getDescription() != null;
+        boolean anyText = dto.getTitle() != null || dto.getUrl() != null || dto.getDescription() != null;
+        if (allText) {
+            update.set("searchTokens", BookmarkSearchTokenizer.tokensOf(dto.getTitle(), dto.getDescription(), dto.getUrl()));
+        }
+
+        // 갱신 전 문서에 요청 필드를 덮어써 갱신 후 상태 구성
+        Bookmark bookmark = requireOwned(bookmarkRepository.updateOwned(userId, bookmarkId, update));
+        List<String> previousTagIds = bookmark.getTagIds();
+        if (dto.getTitle() != null) {
+            bookmark.setTitle(dto.getTitle());
+        }
+        if (dto.getUrl() != null) {
+            bookmark.setUrl(dto.getUrl());
+        }
+        if (dto.getDescription() != null) {
+            bookmark.setDescription(dto.getDescription());
+        }
+        if (dto.getFavorite() != null) {
+            bookmark.setFavorite(dto.getFavorite());
+        }
+        if (tags != null) {
+            bookmark.setTagIds(tags.stream().map(TagResponseDto::getId).toList());
+            bookmark.setTags(tagService.toSnapshots(tags));
+        }
+
+        // 갱신 후 텍스트가 그대로일 때만 토큰 기록. 그 사이 다른 요청이 텍스트를 바꿨다면
+        // 그 요청이 자신의 갱신 후 상태로 토큰을 기록하므로 여기서는 건너뜀
+        if (anyText && !allText) {
+            bookmarkRepository.updateOwnedIfMatches(userId, bookmarkId,
+                    new Criteria().andOperator(
+                            Criteria.where("title").is(bookmark.getTitle()),
+                            Criteria.where("description").is(bookmark.getDescription()),
+                            Criteria.where("url").is(bookmark.getUrl())),
+                    Update.update("searchTokens",
+                            BookmarkSearchTokenizer.tokensOf(bookmark.getTitle(), bookmark.getDescription(), bookmark.getUrl())));
+        }
+        eventPublisher.publishEvent(new BookmarksChangedEvent(userId, List.of(bookmarkId),
+                tags != null ? BookmarksChangedEvent.tagDeltas(previousTagIds, bookmark.getTagIds()) : Map.of()));
+
+        return tags != null ? new BookmarkResponseDto(bookmark, tags) : toResponseDtos(List.of(bookmark)).get(0);
     }
 
-    public void deleteBookmark(String userId, String bookmarkId) {
-        Bookmark bookmark = bookmarkRepository.findById(bookmarkId)
-                .filter(b -> b.getUserId().equals(userId))
-                .orElseThrow(() -> new NotFoundException("북마크를 찾을 수 없습니다."));
+    public void toggleFavorite(String userId, String bookmarkId) {
+        requireOwned(bookmarkRepository.toggleFavoriteOwned(userId, bookmarkId));
+        eventPublisher.publishEvent(new BookmarksChangedEvent(userId, List.of(bookmarkId), Map.of()));
+    }
 
-        bookmarkRepository.delete(bookmark);
+    public void deleteBookmark(String userId, String bookmarkId) {
+        Bookmark deleted = requireOwned(bookmarkRepository.deleteOwned(userId, bookmarkId));
+        eventPublisher.publishEvent(new BookmarksChangedEvent(userId, List.of(bookmarkId),
+                BookmarksChangedEvent.tagDeltas(deleted.getTagIds(), null)));
     }
 
 }
\ No newline at end of file
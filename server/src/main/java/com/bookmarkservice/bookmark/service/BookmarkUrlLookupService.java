@@ -0,0 +1,119 @@
+package com.bookmarkservice.bookmark.service;
+
+import com.bookmarkservice.bookmark.dto.BookmarkUrlLookupResultDto;
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.bookmark.repository.BookmarkRepository;
+import com.bookmarkservice.common.exception.BadRequestException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// "이 URL 을 이미 북마크했는가" 조회
+// 사용자별 블룸 필터로 확실한 미등록을 DB 조회 없이 응답하고, 있을 수 있는 URL 만 urlHash 인덱스로 확인
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkUrlLookupService {
+
+    private static final int MAX_LOOKUP_SIZE = 500;
+    private static final long MAX_FILTER_BYTES = 128L * 1024 * 1024; // 전체 필터 비트 배열 상한
+
+    private final BookmarkRepository bookmarkRepository;
+
+    // 최근 조회한 사용자만 메모리에 유지. 필터 크기는 사용자 북마크 수에 비례하므로 개수가 아닌 바이트로 제한
+    private final Cache<String, UrlBloomFilter> filters = Caffeine.newBuilder()
+            .maximumWeight(MAX_FILTER_BYTES)
+            .weigher((String userId, UrlBloomFilter filter) -> filter.sizeInBytes())
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    public BookmarkUrlLookupResultDto lookup(String userId, String url) {
+        return lookup(userId, List.of(url)).get(0);
+    }
+
+    public List<BookmarkUrlLookupResultDto> lookup(String userId, List<String> urls) {
+        if (urls == null || urls.isEmpty()) {
+            throw new BadRequestException("조회할 URL 이 없습니다.");
+        }
+        if (urls.size() > MAX_LOOKUP_SIZE) {
+            throw new BadRequestException("URL 조회는 최대 " + MAX_LOOKUP_SIZE + "개까지 가능합니다.");
+        }
+
+        UrlBloomFilter filter = filters.get(userId, this::buildFilter);
+
+        List<String> hashes = urls.stream().map(BookmarkUrlNormalizer::hash).toList();
+        Set<String> candidates = new LinkedHashSet<>();
+        for (String hash : hashes) {
+            if (filter.mightContain(hash)) {
+                candidates.add(hash);
+            }
+        }
+
+        // 필터가 있다고 한 URL 만 인덱스로 한 번에 확인 (오탐 제거)
+        Map<String, String> bookmarkIdsByHash = candidates.isEmpty() ? Map.of() : bookmarkRepository
+                .findByUrlHashes(userId, candidates).stream()
+                .collect(Collectors.toMap(Bookmark::getUrlHash, Bookmark::getId, (first, second) -> first));
+
+        List<BookmarkUrlLookupResultDto> results = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            String bookmarkId = bookmarkIdsByHash.get(hashes.get(i));
+            results.add(new BookmarkUrlLookupResultDto(urls.get(i), BookmarkUrlNormalizer.normalize(urls.get(i)),
+                    bookmarkId != null, bookmarkId));
+        }
+        return results;
+    }
+
+    // 새로 저장/수정된 북마크의 해시를 필터에 추가 (삭제는 반영하지 않음: 인덱스 확인 단계에서 걸러짐)
+    // DB 조회는 캐시 락 밖에서 하고, 추가만 compute 안에서 해 필터 생성 중이면 생성이 끝난 뒤 추가되도록 함
+    @EventListener
+    public void onBookmarksChanged(BookmarksChangedEvent event) {
+        try {
+            if (event.getBookmarkIds() == null) {
+                filters.invalidate(event.getUserId());
+                return;
+            }
+
+            // 생성 중인 필터는 getIfPresent 로 보이지 않으므로 존재 여부와 관계없이 조회 (_id 인덱스 조회)
+            List<String> hashes = bookmarkRepository.findUrlHashesByIds(event.getUserId(), event.getBookmarkIds());
+            filters.asMap().computeIfPresent(event.getUserId(), (userId, filter) -> {
+                hashes.forEach(filter::add);
+                return filter.isSaturated() ? null : filter;
+            });
+        } catch (Exception e) {
+            // 필터 갱신 실패 시 다음 조회에서 새로 생성
+            filters.invalidate(event.getUserId());
+            log.error("URL 블룸 필터 갱신 실패: userId={}, 오류={}", event.getUserId(), e.getMessage(), e);
+        }
+    }
+
+    private UrlBloomFilter buildFilter(String userId) {
+        List<String> hashes = new ArrayList<>();
+        try (Stream<Bookmark> bookmarks = bookmarkRepository.streamUrlHashesByUserId(userId)) {
+            Iterator<Bookmark> it = bookmarks.iterator();
+            while (it.hasNext()) {
+                String hash = it.next().getUrlHash();
+                if (hash != null) {
+                    hashes.add(hash);
+                }
+            }
+        }
+
+        UrlBloomFilter filter = new UrlBloomFilter(hashes.size());
+        hashes.forEach(filter::add);
+        return filter;
+    }
+}
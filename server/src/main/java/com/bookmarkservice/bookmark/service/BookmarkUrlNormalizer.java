@@ -0,0 +1,81 @@
+package com.bookmarkservice.bookmark.service;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+// 같은 페이지를 가리키는 URL 표기 차이를 없애 비교/해시용 정규 형태로 변환
+// (스킴/호스트 소문자, 기본 포트·프래그먼트·끝 슬래시·utm 추적 파라미터 제거, 쿼리 파라미터 정렬)
+public final class BookmarkUrlNormalizer {
+
+    private BookmarkUrlNormalizer() {
+    }
+
+    public static String normalize(String url) {
+        if (url == null || url.isBlank()) {
+            return "";
+        }
+
+        String trimmed = url.trim();
+        try {
+            URI uri = new URI(trimmed);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return trimmed;
+            }
+
+            String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            String host = uri.getHost().toLowerCase(Locale.ROOT);
+            int port = uri.getPort();
+            boolean defaultPort = port == -1
+                    || ("http".equals(scheme) && port == 80)
+                    || ("https".equals(scheme) && port == 443);
+
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            StringBuilder sb = new StringBuilder(scheme).append("://").append(host);
+            if (!defaultPort) {
+                sb.append(':').append(port);
+            }
+            sb.append(path);
+
+            String query = normalizeQuery(uri.getRawQuery());
+            if (!query.isEmpty()) {
+                sb.append('?').append(query);
+            }
+            return sb.toString();
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+    }
+
+    // 정규화된 URL 의 SHA-256 앞 16바이트 (hex). 블룸 필터와 urlHash 인덱스가 같은 값을 사용
+    public static String hash(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(normalize(url).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String normalizeQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        return Arrays.stream(rawQuery.split("&"))
+                .filter(param -> !param.isEmpty())
+                .filter(param -> !param.toLowerCase(Locale.ROOT).startsWith("utm_"))
+                .sorted()
+                .collect(Collectors.joining("&"));
+    }
+}
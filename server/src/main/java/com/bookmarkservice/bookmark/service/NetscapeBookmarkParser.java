@@ -0,0 +1,261 @@
+package com.bookmarkservice.bookmark.service;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 크롬/파이어폭스가 내보내는 Netscape 북마크 HTML 을 한 글자씩 읽으며 북마크 단위로 전달하는 파서
+// 파일 전체를 메모리에 올리지 않으며, 폴더 경로는 태그 이름으로 변환
+class NetscapeBookmarkParser {
+
+    // 이름 중간에서 매칭을 다시 시작하지 않도록(긴 속성 값에서 제곱 시간 방지) 앞 글자를 확인하고 되돌아가지 않음
+    private static final Pattern ATTRIBUTE = Pattern.compile("(?<![A-Za-z_:-])([A-Za-z_:-]++)\\s*+=\\s*+\"([^\"]*+)\"");
+    private static final Pattern NUMERIC_ENTITY = Pattern.compile("&#([xX]?)([0-9A-Fa-f]+);");
+
+    // 태그/텍스트 하나에 쌓는 최대 글자 수 ('>' 가 없는 업로드도 메모리에 통째로 올리지 않음)
+    // 크롬은 ICON 속성에 data: URI 를 넣으므로 넉넉히 두고, 넘는 부분은 읽기만 하고 버림
+    static final int MAX_TAG_LENGTH = 256 * 1024;
+    static final int MAX_TEXT_LENGTH = 64 * 1024;
+
+    private enum Capture { NONE, FOLDER_TITLE, LINK_TITLE, DESCRIPTION }
+
+    private final Reader reader;
+    private final Consumer<ParsedBookmark> sink;
+
+    private final Deque<String> folders = new ArrayDeque<>(); // 빈 문자열은 태그로 쓰지 않는 폴더
+    private final StringBuilder text = new StringBuilder();
+    private Capture capture = Capture.NONE;
+    private String pendingFolder;
+    private boolean pendingFolderIgnored;
+    private ParsedBookmark pending;
+
+    NetscapeBookmarkParser(Reader reader, Consumer<ParsedBookmark> sink) {
+        this.reader = reader;
+        this.sink = sink;
+    }
+
+    void parse() throws IOException {
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '<') {
+                String tag = readTag();
+                if (tag == null) {
+                    break; // 닫히지 않은 채 끝난 태그는 무시
+                }
+                onTag(tag);
+            } else if (capture != Capture.NONE && text.length() < MAX_TEXT_LENGTH) {
+                text.append((char) c);
+            }
+        }
+        flushPending();
+    }
+
+    // '>' 까지 읽기 (따옴표 안의 '>' 는 무시), '>' 없이 파일이 끝나면 null
+    private String readTag() throws IOException {
+        StringBuilder tag = new StringBuilder();
+        boolean quoted = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '>' && !quoted) {
+                return tag.toString();
+            }
+            if (tag.length() < MAX_TAG_LENGTH) {
+                tag.append((char) c);
+            }
+        }
+        return null;
+    }
+
+    private void onTag(String raw) {
+        String name = tagName(raw);
+        switch (name) {
+            case "a" -> {
+                flushPending();
+                Map<String, String> attributes = attributes(raw);
+                pending = new ParsedBookmark(
+                        unescape(attributes.getOrDefault("href", "")).trim(),
+                        parseEpochSeconds(attributes.get("add_date")),
+                        attributes.get("tags"));
+                startCapture(Capture.LINK_TITLE);
+            }
+            case "/a" -> {
+                if (pending != null) {
+                    pending.title = unescape(text.toString()).trim();
+                }
+                capture = Capture.NONE;
+            }
+            case "dd" -> {
+                if (pending != null) {
+                    startCapture(Capture.DESCRIPTION);
+                }
+            }
+            case "h3" -> {
+                flushPending();
+                // 크롬의 "북마크바" 같은 최상위 툴바 폴더는 태그로 만들지 않음
+                pendingFolderIgnored = attributes(raw).containsKey("personal_toolbar_folder");
+                startCapture(Capture.FOLDER_TITLE);
+            }
+            case "/h3" -> {
+                String folder = unescape(text.toString()).trim();
+                pendingFolder = pendingFolderIgnored ? "" : folder;
+                capture = Capture.NONE;
+            }
+            case "dl" -> {
+                flushPending();
+                folders.push(pendingFolder == null ? "" : pendingFolder);
+                pendingFolder = null;
+            }
+            case "/dl" -> {
+                flushPending();
+                if (!folders.isEmpty()) {
+                    folders.pop();
+                }
+            }
+            case "dt" -> flushPending();
+            default -> {
+                // <p>, <meta>, <title>, <h1> 등은 무시
+            }
+        }
+    }
+
+    private void startCapture(Capture target) {
+        capture = target;
+        text.setLength(0);
+    }
+
+    private void flushPending() {
+        if (pending == null) {
+            return;
+        }
+
+        if (capture == Capture.DESCRIPTION) {
+            String description = unescape(text.toString()).trim();
+            pending.description = description.isEmpty() ? null : description;
+        }
+        capture = Capture.NONE;
+
+        ParsedBookmark bookmark = pending;
+        pending = null;
+
+        if (!isSupportedUrl(bookmark.url)) {
+            return; // place:, javascript: 등은 건너뜀
+        }
+        if (bookmark.title == null || bookmark.title.isEmpty()) {
+            bookmark.title = bookmark.url;
+        }
+
+        // 폴더 경로(바깥 → 안쪽) + 파이어폭스 TAGS 속성
+        Set<String> tagNames = new LinkedHashSet<>();
+        folders.descendingIterator().forEachRemaining(folder -> {
+            if (!folder.isEmpty()) {
+                tagNames.add(folder);
+            }
+        });
+        if (bookmark.rawTags != null) {
+            for (String tag : unescape(bookmark.rawTags).split(",")) {
+                if (!tag.isBlank()) {
+                    tagNames.add(tag.trim());
+                }
+            }
+        }
+        bookmark.tagNames = tagNames;
+
+        sink.accept(bookmark);
+    }
+
+    private static String tagName(String raw) {
+        String trimmed = raw.trim();
+        int end = 0;
+        while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, String> attributes(String raw) {
+        Map<String, String> attributes = new HashMap<>();
+        Matcher matcher = ATTRIBUTE.matcher(raw);
+        while (matcher.find()) {
+            attributes.put(matcher.group(1).toLowerCase(Locale.ROOT), matcher.group(2));
+        }
+        return attributes;
+    }
+
+    private static boolean isSupportedUrl(String url) {
+        String lower = url.toLowerCase(Locale.ROOT);
+        return lower.startsWith("http://") || lower.startsWith("https://");
+    }
+
+    private static LocalDateTime parseEpochSeconds(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.ofInstant(Instant.ofEpochSecond(Long.parseLong(value.trim())), ZoneId.systemDefault());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static String unescape(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+
+        Matcher matcher = NUMERIC_ENTITY.matcher(value);
+        StringBuilder decoded = new StringBuilder();
+        while (matcher.find()) {
+            int codePoint;
+            try {
+                codePoint = Integer.parseInt(matcher.group(2), matcher.group(1).isEmpty() ? 10 : 16);
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            if (!Character.isValidCodePoint(codePoint)) {
+                continue;
+            }
+            matcher.appendReplacement(decoded, Matcher.quoteReplacement(new String(Character.toChars(codePoint))));
+        }
+        matcher.appendTail(decoded);
+
+        return decoded.toString()
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&nbsp;", " ")
+                .replace("&amp;", "&");
+    }
+
+    @Getter
+    static class ParsedBookmark {
+        private final String url;
+        private final LocalDateTime addedAt;
+        private final String rawTags;
+        private String title;
+        private String description;
+        private Set<String> tagNames = Set.of();
+
+        ParsedBookmark(String url, LocalDateTime addedAt, String rawTags) {
+            this.url = url;
+            this.addedAt = addedAt;
+            this.rawTags = rawTags;
+        }
+    }
+}
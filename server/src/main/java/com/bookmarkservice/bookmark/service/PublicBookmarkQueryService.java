@@ -0,0 +1,57 @@
+package com.bookmarkservice.bookmark.service;
+
+import com.bookmarkservice.bookmark.dto.BookmarkResponseDto;
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.entity.PublicBookmark;
+import com.bookmarkservice.bookmark.repository.PublicBookmarkReactiveRepository;
+import com.bookmarkservice.tag.service.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 공개 북마크 조회 (인증 불필요, 리액티브)
+// MongoDB 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+@Service
+@RequiredArgsConstructor
+public class PublicBookmarkQueryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PublicBookmarkSearchIndex publicBookmarkSearchIndex;
+    private final PublicBookmarkReactiveRepository publicBookmarkReactiveRepository;
+    private final TagService tagService;
+
+    // 공개 카테고리 북마크 검색 (Lucene 색인, 관련도순 페이지)
+    // 색인 검색은 로컬 디스크 I/O 라 별도 스케줄러에서 실행
+    public Flux<BookmarkResponseDto> searchPublicCategoryBookmarks(String keyword, int page, int size) {
+        return Mono.fromCallable(() -> publicBookmarkSearchIndex.search(
+                        keyword, Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(rankedIds -> !rankedIds.isEmpty())
+                .flatMapMany(rankedIds -> publicBookmarkReactiveRepository.findAllById(rankedIds)
+                        .collectMap(PublicBookmark::getId, PublicBookmark::toBookmark)
+                        .flatMapMany(bookmarks -> toResponseDtos(rankedIds.stream()
+                                .map(bookmarks::get)
+                                .filter(Objects::nonNull)
+                                .toList())));
+    }
+
+    // 태그 사본이 없는 문서의 태그만 한 번에 조회
+    private Flux<BookmarkResponseDto> toResponseDtos(List<Bookmark> bookmarks) {
+        Set<String> tagIds = bookmarks.stream()
+                .filter(b -> b.getTags() == null && b.getTagIds() != null)
+                .flatMap(b -> b.getTagIds().stream())
+                .collect(Collectors.toSet());
+
+        return tagService.findTagMapByIdsReactive(tagIds)
+                .flatMapMany(tagMap -> Flux.fromIterable(bookmarks)
+                        .map(b -> new BookmarkResponseDto(b, tagService.tagsOf(b.getTags(), b.getTagIds(), tagMap))));
+    }
+}
@@ -0,0 +1,395 @@
+package com.bookmarkservice.bookmark.service;
+
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.entity.PublicBookmark;
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.bookmark.event.PublicBookmarksChangedEvent;
+import com.bookmarkservice.bookmark.repository.BookmarkRepository;
+import com.bookmarkservice.category.entity.Category;
+import com.bookmarkservice.category.event.CategoryChangedEvent;
+import com.bookmarkservice.category.repository.CategoryRepository;
+import com.bookmarkservice.tag.event.TagChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 공개 북마크 읽기 모델(public_bookmarks) 유지
+// 북마크/카테고리/태그 쓰기 이벤트마다 영향받는 북마크와 카테고리만 백그라운드에서 동기화하고,
+// 주기적으로 전체 재구성해 누락을 보정 (쓰기 요청 지연이 사용자의 북마크 수에 비례해 늘지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicBookmarkReadModel {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final BookmarkRepository bookmarkRepository;
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    // 같은 사용자의 동기화는 순서대로 (재구성과 이벤트 동기화가 서로 덮어쓰지 않도록)
+    private final Object[] userLocks = newLocks(64);
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final ThreadPoolExecutor syncExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(10_000), runnable -> {
+                Thread thread = new Thread(runnable, "public-bookmark-sync-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        syncExecutor.shutdown();
+        if (!syncExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            syncExecutor.shutdownNow();
+        }
+    }
+
+    // 최초 기동 시 읽기 모델이 비어 있으면 전체 구성 (검색 색인보다 먼저 실행)
+    // 실패해도 기동은 계속하고 retryPendingRebuild 가 나중에 다시 구성
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (mongoTemplate.estimatedCount(PublicBookmark.class) == 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            rebuildPending.set(true);
+            log.error("공개 북마크 읽기 모델 초기 구성 실패, 나중에 다시 시도: {}", e.getMessage(), e);
+        }
+    }
+
+    // 기동 시 구성에 실패했으면 성공할 때까지 주기적으로 재시도
+    @Scheduled(fixedDelayString = "${public-bookmarks.rebuild-retry-ms:60000}",
+            initialDelayString = "${public-bookmarks.rebuild-retry-ms:60000}")
+    public void retryPendingRebuild() {
+        if (!rebuildPending.get()) {
+            return;
+        }
+        try {
+            rebuild();
+            rebuildPending.set(false);
+        } catch (Exception e) {
+            log.error("공개 북마크 읽기 모델 재구성 재시도 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 백그라운드 전체 재구성 (기본: 매일 새벽 4시)
+    @Scheduled(cron = "${public-bookmarks.rebuild-cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("공개 북마크 읽기 모델 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public void rebuild() {
+        Set<String> userIds = categoryRepository.findByIsPublicTrue().stream()
+                .map(Category::getUserId)
+                .collect(Collectors.toSet());
+
+        for (String userId : userIds) {
+            syncUser(userId);
+        }
+
+        // 공개 카테고리가 더 이상 없는 사용자의 문서 정리
+        Set<String> staleUserIds = new HashSet<>(mongoTemplate.findDistinct(new Query(), "userId", PublicBookmark.class, String.class));
+        staleUserIds.removeAll(userIds);
+        for (String userId : staleUserIds) {
+            synchronized (lockFor(userId)) {
+                mongoTemplate.remove(new Query(Criteria.where("userId").is(userId)), PublicBookmark.class);
+            }
+            eventPublisher.publishEvent(new PublicBookmarksChangedEvent(userId, null));
+        }
+        log.info("공개 북마크 읽기 모델 재구성 완료: 사용자 {}명", userIds.size());
+    }
+
+    // 요청 스레드에서는 작업만 넘기고 반환
+    @EventListener
+    public void onBookmarksChanged(BookmarksChangedEvent event) {
+        String userId = event.getUserId();
+        if (event.getBookmarkIds() == null) {
+            submit(userId, () -> syncUser(userId));
+        } else {
+            List<String> bookmarkIds = List.copyOf(event.getBookmarkIds());
+            submit(userId, () -> syncBookmarks(userId, bookmarkIds));
+        }
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        String userId = event.getUserId();
+        if (event.getCategoryId() == null) {
+            submit(userId, () -> syncUser(userId));
+        } else {
+            submit(userId, () -> syncCategory(userId, event.getCategoryId()));
+        }
+    }
+
+    // 태그 삭제는 공개 범위를, 이름 변경은 저장된 태그 사본을 바꾸므로 생성만 무시
+    @EventListener
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() != TagChangedEvent.Type.CREATED) {
+            submit(event.getUserId(), () -> syncTag(event.getUserId(), event.getTagId()));
+        }
+    }
+
+    // 사용자의 공개 북마크 전체 재동기화 (재구성, 범위를 알 수 없는 일괄 변경용)
+    // 배치 단위로 upsert 후 현재 읽기 모델에서 더 이상 공개되지 않는 문서만 골라 삭제
+    public void syncUser(String userId) {
+        synchronized (lockFor(userId)) {
+            Map<String, List<String>> categoryIdsByTag = publicCategoryIdsByTag(userId);
+
+            Set<String> visibleIds = new HashSet<>();
+            if (!categoryIdsByTag.isEmpty()) {
+                try (Stream<Bookmark> bookmarks = bookmarkRepository.streamByUserIdAndTagIdsIn(userId, categoryIdsByTag.keySet())) {
+                    List<PublicBookmark> batch = new ArrayList<>(BATCH_SIZE);
+                    bookmarks.forEach(bookmark -> {
+                        batch.add(PublicBookmark.of(bookmark, categoryIdsOf(bookmark, categoryIdsByTag)));
+                        visibleIds.add(bookmark.getId());
+                        if (batch.size() == BATCH_SIZE) {
+                            upsertAll(batch);
+                            batch.clear();
+                        }
+                    });
+                    upsertAll(batch);
+                }
+            }
+
+            Query existing = new Query(Criteria.where("userId").is(userId));
+            existing.fields().include("_id");
+            List<String> staleIds = mongoTemplate.find(existing, PublicBookmark.class).stream()
+                    .map(PublicBookmark::getId)
+                    .filter(id -> !visibleIds.contains(id))
+                    .toList();
+            for (List<String> chunk : chunks(staleIds)) {
+                mongoTemplate.remove(new Query(Criteria.where("_id").in(chunk)), PublicBookmark.class);
+            }
+            updateBookmarkCounts(userId, null);
+
+            eventPublisher.publishEvent(new PublicBookmarksChangedEvent(userId, null));
+        }
+    }
+
+    public void syncBookmarks(String userId, Collection<String> bookmarkIds) {
+        syncBookmarks(userId, bookmarkIds, Set.of());
+    }
+
+    // 카테고리 공개 여부/태그 변경: 지금 이 카테고리로 노출 중인 북마크와 새로 노출될 북마크만 재동기화
+    public void syncCategory(String userId, String categoryId) {
+        synchronized (lockFor(userId)) {
+            Set<String> bookmarkIds = new LinkedHashSet<>();
+            Query exposed = new Query(Criteria.where("userId").is(userId).and("categoryIds").is(categoryId));
+            exposed.fields().include("_id");
+            mongoTemplate.find(exposed, PublicBookmark.class).forEach(bookmark -> bookmarkIds.add(bookmark.getId()));
+
+            categoryRepository.findById(categoryId)
+                    .filter(category -> userId.equals(category.getUserId()) && Boolean.TRUE.equals(category.getIsPublic()))
+                    .filter(category -> category.getTagIds() != null && !category.getTagIds().isEmpty())
+                    .ifPresent(category -> {
+                        Query tagged = new Query(Criteria.where("userId").is(userId).and("tagIds").in(category.getTagIds()));
+                        tagged.fields().include("_id");
+                        mongoTemplate.find(tagged, Bookmark.class).forEach(bookmark -> bookmarkIds.add(bookmark.getId()));
+                    });
+
+            syncBookmarks(userId, bookmarkIds, Set.of(categoryId));
+        }
+    }
+
+    // 태그 이름 변경/삭제: 그 태그를 가진 공개 북마크만 재동기화
+    public void syncTag(String userId, String tagId) {
+        synchronized (lockFor(userId)) {
+            Query tagged = new Query(Criteria.where("userId").is(userId).and("tagIds").is(tagId));
+            tagged.fields().include("_id");
+            List<String> bookmarkIds = mongoTemplate.find(tagged, PublicBookmark.class).stream()
+                    .map(PublicBookmark::getId)
+                    .toList();
+            syncBookmarks(userId, bookmarkIds, Set.of());
+        }
+    }
+
+    // 변경 전후로 북마크를 노출하는 카테고리의 북마크 수만 다시 계산
+    private void syncBookmarks(String userId, Collection<String> bookmarkIds, Set<String> categoryIds) {
+        synchronized (lockFor(userId)) {
+            Map<String, List<String>> categoryIdsByTag = publicCategoryIdsByTag(userId);
+            Set<String> affectedCategoryIds = new HashSet<>(categoryIds);
+
+            for (List<String> chunk : chunks(List.copyOf(bookmarkIds))) {
+                Query previous = new Query(Criteria.where("_id").in(chunk).and("userId").is(userId));
+                previous.fields().include("categoryIds");
+                mongoTemplate.find(previous, PublicBookmark.class).stream()
+                        .filter(bookmark -> bookmark.getCategoryIds() != null)
+                        .forEach(bookmark -> affectedCategoryIds.addAll(bookmark.getCategoryIds()));
+
+                List<PublicBookmark> visible = new ArrayList<>();
+                Set<String> hidden = new HashSet<>(chunk);
+                for (Bookmark bookmark : bookmarkRepository.findAllById(chunk)) {
+                    if (!userId.equals(bookmark.getUserId())) {
+                        continue;
+                    }
+                    List<String> exposedIn = categoryIdsOf(bookmark, categoryIdsByTag);
+                    if (!exposedIn.isEmpty()) {
+                        visible.add(PublicBookmark.of(bookmark, exposedIn));
+                        affectedCategoryIds.addAll(exposedIn);
+                        hidden.remove(bookmark.getId());
+                    }
+                }
+
+                upsertAll(visible);
+                if (!hidden.isEmpty()) {
+                    mongoTemplate.remove(new Query(Criteria.where("_id").in(hidden).and("userId").is(userId)), PublicBookmark.class);
+                }
+            }
+            updateBookmarkCounts(userId, affectedCategoryIds);
+
+            if (!bookmarkIds.isEmpty()) {
+                eventPublisher.publishEvent(new PublicBookmarksChangedEvent(userId, bookmarkIds));
+            }
+        }
+    }
+
+    // 공개 카테고리별 노출 북마크 수 (공개 카테고리 탐색의 북마크 수 정렬용)
+    // categoryIds 가 null 이면 사용자의 모든 공개 카테고리, 아니면 해당 카테고리만 다시 계산
+    private void updateBookmarkCounts(String userId, Set<String> categoryIds) {
+        List<Category> categories = categoryIds == null
+                ? categoryRepository.findByUserIdAndIsPublicTrue(userId)
+                : categoryIds.isEmpty() ? List.of() : categoryRepository.findAllById(categoryIds).stream()
+                        .filter(category -> userId.equals(category.getUserId()) && Boolean.TRUE.equals(category.getIsPublic()))
+                        .toList();
+        if (categories.isEmpty()) {
+            return;
+        }
+
+        List<String> ids = categories.stream().map(Category::getId).toList();
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(userId).and("categoryIds").in(ids)),
+                Aggregation.project("categoryIds"),
+                Aggregation.unwind("categoryIds"),
+                Aggregation.match(Criteria.where("categoryIds").in(ids)),
+                Aggregation.group("categoryIds").count().as("count"));
+        Map<String, Long> counts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, PublicBookmark.class, Document.class)
+                .forEach(doc -> counts.put(doc.getString("_id"), ((Number) doc.get("count")).longValue()));
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Category.class);
+        int pending = 0;
+        for (Category category : categories) {
+            long count = counts.getOrDefault(category.getId(), 0L);
+            if (category.getBookmarkCount() == null || category.getBookmarkCount() != count) {
+                bulk.updateOne(Query.query(Criteria.where("_id").is(category.getId())), Update.update("bookmarkCount", count));
+                pending++;
+            }
+        }
+        if (pending > 0) {
+            bulk.execute();
+        }
+    }
+
+    private void submit(String userId, Runnable sync) {
+        try {
+            syncExecutor.execute(() -> {
+                try {
+                    sync.run();
+                } catch (Exception e) {
+                    // 읽기 모델 실패는 기록만 (주기적 재구성으로 복구)
+                    log.error("공개 북마크 읽기 모델 동기화 실패: userId={}, 오류={}", userId, e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차 동기화를 건너뛰면 다음 재시도 주기에 전체 재구성
+            rebuildPending.set(true);
+            log.warn("공개 북마크 읽기 모델 동기화 대기열 초과, 전체 재구성 예약: userId={}", userId);
+        }
+    }
+
+    private Object lockFor(String userId) {
+        return userLocks[Math.floorMod(userId.hashCode(), userLocks.length)];
+    }
+
+    private void upsertAll(List<PublicBookmark> bookmarks) {
+        if (bookmarks.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PublicBookmark.class);
+        for (PublicBookmark bookmark : bookmarks) {
+            bulk.replaceOne(Query.query(Criteria.where("_id").is(bookmark.getId())), bookmark,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+
+    // 공개 카테고리의 태그 ID -> 해당 태그를 가진 공개 카테고리 ID 목록
+    private Map<String, List<String>> publicCategoryIdsByTag(String userId) {
+        Map<String, List<String>> categoryIdsByTag = new HashMap<>();
+        for (Category category : categoryRepository.findByUserIdAndIsPublicTrue(userId)) {
+            if (category.getTagIds() == null) {
+                continue;
+            }
+            category.getTagIds().forEach(tagId ->
+                    categoryIdsByTag.computeIfAbsent(tagId, k -> new ArrayList<>()).add(category.getId()));
+        }
+        return categoryIdsByTag;
+    }
+
+    private static List<List<String>> chunks(List<String> ids) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static Object[] newLocks(int count) {
+        Object[] locks = new Object[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private List<String> categoryIdsOf(Bookmark bookmark, Map<String, List<String>> categoryIdsByTag) {
+        if (bookmark.getTagIds() == null) {
+            return List.of();
+        }
+        return bookmark.getTagIds().stream()
+                .flatMap(tagId -> categoryIdsByTag.getOrDefault(tagId, List.of()).stream())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,302 @@
+package com.bookmarkservice.bookmark.service;
+
+import com.bookmarkservice.bookmark.entity.PublicBookmark;
+import com.bookmarkservice.bookmark.event.PublicBookmarksChangedEvent;
+import com.bookmarkservice.bookmark.repository.PublicBookmarkRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 공개 카테고리를 통해 노출되는 북마크만 담는 디스크 기반 Lucene 색인 (한국어 형태소 분석기 Nori 사용)
+// 공개 북마크 읽기 모델(public_bookmarks)이 바뀔 때마다 해당 북마크 또는 사용자 단위로 부분 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicBookmarkSearchIndex {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_URL = "url";
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_URL, 1.5f,
+            FIELD_DESCRIPTION, 1.0f
+    );
+    private static final int MAX_RESULT_WINDOW = 1000; // page * size 상한
+
+    private final PublicBookmarkRepository publicBookmarkRepository;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    @Value("${search.public-index.path:./data/public-bookmark-index}")
+    private String indexPath;
+
+    private Analyzer analyzer;
+    private FSDirectory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    // 사용자별 재색인 직렬화용 락 (사용자 수와 무관한 고정 개수로 분할)
+    private final Object[] userLocks = newLocks(64);
+
+    // 부분 재색인은 읽기 락, 전체 재구성은 쓰기 락 (deleteAll 과 재추가 사이에 부분 재색인이 끼어들지 않음)
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    public void open() throws IOException {
+        Path path = Path.of(indexPath);
+        Files.createDirectories(path);
+
+        analyzer = new KoreanAnalyzer();
+        directory = FSDirectory.open(path);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.commit();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    // 색인이 비어 있으면 (최초 기동) 전체 재구성. 읽기 모델 구성 이후에 실행
+    // 실패해도 기동은 계속하고 retryPendingRebuild 가 나중에 다시 구성
+    @Order(2)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (writer.getDocStats().numDocs == 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            rebuildPending.set(true);
+            log.error("공개 북마크 색인 초기 구성 실패, 나중에 다시 시도: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.public-index.rebuild-retry-ms:60000}",
+            initialDelayString = "${search.public-index.rebuild-retry-ms:60000}")
+    public void retryPendingRebuild() {
+        if (!rebuildPending.get()) {
+            return;
+        }
+        try {
+            rebuild();
+            rebuildPending.set(false);
+        } catch (Exception e) {
+            log.error("공개 북마크 색인 재구성 재시도 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 주기적으로 커밋해 재기동 시에도 색인 유지 (검색은 커밋 없이 NRT 로 반영)
+    @Scheduled(fixedDelayString = "${search.public-index.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.error("공개 북마크 색인 커밋 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 공개 북마크 읽기 모델 기준으로 색인 전체 재구성 (그동안 부분 재색인은 대기했다가 재구성 결과 위에 반영)
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try (Stream<PublicBookmark> bookmarks = publicBookmarkRepository.streamAllBy()) {
+            writer.deleteAll();
+            for (PublicBookmark bookmark : (Iterable<PublicBookmark>) bookmarks::iterator) {
+                writer.addDocument(toDocument(bookmark));
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("공개 북마크 색인 재구성 완료: 문서 {}건", writer.getDocStats().numDocs);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    // 검색 결과는 관련도순 북마크 ID 목록
+    public List<String> search(String keyword, int page, int size) {
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return List.of();
+        }
+
+        int from = page * size;
+        if (from >= MAX_RESULT_WINDOW) {
+            return List.of();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, Math.min(from + size, MAX_RESULT_WINDOW));
+                List<String> ids = new ArrayList<>();
+                ScoreDoc[] hits = topDocs.scoreDocs;
+                for (int i = from; i < hits.length; i++) {
+                    ids.add(searcher.storedFields().document(hits[i].doc).get(FIELD_ID));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @EventListener
+    public void onPublicBookmarksChanged(PublicBookmarksChangedEvent event) {
+        if (event.getBookmarkIds() == null) {
+            reindexUser(event.getUserId());
+        } else {
+            reindexBookmarks(event.getUserId(), event.getBookmarkIds());
+        }
+    }
+
+    // 같은 사용자의 동시 재색인이 서로의 삭제/추가 사이에 끼어들지 않도록 사용자 단위로 직렬화
+    // 문서는 북마크 ID 기준 updateDocument 로 교체하고, 읽기 모델에 없는 문서만 따로 삭제 (중복 문서가 생기지 않음)
+    public void reindexUser(String userId) {
+        rebuildLock.readLock().lock();
+        try {
+            synchronized (lockFor(userId)) {
+                List<BytesRef> visibleIds = new ArrayList<>();
+                for (PublicBookmark bookmark : publicBookmarkRepository.findByUserId(userId)) {
+                    writer.updateDocument(new Term(FIELD_ID, bookmark.getId()), toDocument(bookmark));
+                    visibleIds.add(new BytesRef(bookmark.getId()));
+                }
+                writer.deleteDocuments(new BooleanQuery.Builder()
+                        .add(new TermQuery(new Term(FIELD_USER_ID, userId)), BooleanClause.Occur.MUST)
+                        .add(new TermInSetQuery(FIELD_ID, visibleIds), BooleanClause.Occur.MUST_NOT)
+                        .build());
+            }
+            searcherManager.maybeRefresh();
+        } catch (Exception e) {
+            // 색인 실패가 원본 쓰기 요청을 실패시키지 않도록 기록만 (rebuild 로 복구)
+            log.error("공개 북마크 색인 갱신 실패: userId={}, 오류={}", userId, e.getMessage(), e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // 읽기 모델에 남아 있는 북마크는 갱신, 사라진 북마크는 색인에서 삭제
+    public void reindexBookmarks(String userId, Collection<String> bookmarkIds) {
+        rebuildLock.readLock().lock();
+        try {
+            synchronized (lockFor(userId)) {
+                Map<String, PublicBookmark> bookmarks = publicBookmarkRepository.findAllById(bookmarkIds).stream()
+                        .collect(Collectors.toMap(PublicBookmark::getId, b -> b));
+
+                for (String bookmarkId : bookmarkIds) {
+                    PublicBookmark bookmark = bookmarks.get(bookmarkId);
+                    if (bookmark != null) {
+                        writer.updateDocument(new Term(FIELD_ID, bookmarkId), toDocument(bookmark));
+                    } else {
+                        writer.deleteDocuments(new Term(FIELD_ID, bookmarkId));
+                    }
+                }
+            }
+            searcherManager.maybeRefresh();
+        } catch (Exception e) {
+            log.error("공개 북마크 색인 갱신 실패: userId={}, 오류={}", userId, e.getMessage(), e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private Object lockFor(String userId) {
+        return userLocks[Math.floorMod(userId.hashCode(), userLocks.length)];
+    }
+
+    private Document toDocument(PublicBookmark bookmark) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_ID, bookmark.getId(), Field.Store.YES));
+        doc.add(new StringField(FIELD_USER_ID, bookmark.getUserId(), Field.Store.NO));
+        doc.add(new TextField(FIELD_TITLE, nullToEmpty(bookmark.getTitle()), Field.Store.NO));
+        doc.add(new TextField(FIELD_DESCRIPTION, nullToEmpty(bookmark.getDescription()), Field.Store.NO));
+        doc.add(new TextField(FIELD_URL, nullToEmpty(bookmark.getUrl()), Field.Store.NO));
+        return doc;
+    }
+
+    // 필드별 가중치를 둔 OR 검색 (더 많은 단어, 제목 일치일수록 높은 점수)
+    private Query buildQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        for (Map.Entry<String, Float> field : FIELD_BOOSTS.entrySet()) {
+            Query fieldQuery = builder.createBooleanQuery(field.getKey(), keyword, BooleanClause.Occur.SHOULD);
+            if (fieldQuery != null) {
+                query.add(new BoostQuery(fieldQuery, field.getValue()), BooleanClause.Occur.SHOULD);
+                hasClause = true;
+            }
+        }
+        return hasClause ? query.build() : null;
+    }
+
+    private static Object[] newLocks(int count) {
+        Object[] locks = new Object[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
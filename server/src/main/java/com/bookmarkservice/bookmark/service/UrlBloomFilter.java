@@ -0,0 +1,69 @@
+package com.bookmarkservice.bookmark.service;
+
+import java.util.HexFormat;
+
+// urlHash(hex) 집합에 대한 블룸 필터. false 면 확실히 없음, true 면 있을 수 있음
+// urlHash 가 이미 균등한 해시이므로 앞 16바이트를 두 개의 64비트 값으로 나눠 이중 해싱에 사용
+class UrlBloomFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+    private final int capacity;
+    private int size;
+
+    UrlBloomFilter(int expectedSize) {
+        // 이후 추가분을 고려해 여유를 두고 생성 (capacity 초과 시 다시 만듦)
+        this.capacity = Math.max(MIN_CAPACITY, expectedSize * 2);
+        long m = (long) Math.ceil(-capacity * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, m);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        this.bits = new long[(bitCount + 63) / 64];
+    }
+
+    synchronized void add(String urlHash) {
+        long h1 = h1(urlHash);
+        long h2 = h2(urlHash);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1, h2, i);
+            bits[index >>> 6] |= 1L << index;
+        }
+        size++;
+    }
+
+    synchronized boolean mightContain(String urlHash) {
+        long h1 = h1(urlHash);
+        long h2 = h2(urlHash);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1, h2, i);
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int sizeInBytes() {
+        return bits.length * Long.BYTES;
+    }
+
+    // 설계 용량을 넘으면 오탐률이 커지므로 다시 만들어야 함
+    synchronized boolean isSaturated() {
+        return size > capacity;
+    }
+
+    private int index(long h1, long h2, int i) {
+        return (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+    }
+
+    private static long h1(String urlHash) {
+        return HexFormat.fromHexDigitsToLong(urlHash, 0, 16);
+    }
+
+    private static long h2(String urlHash) {
+        return HexFormat.fromHexDigitsToLong(urlHash, 16, 32) | 1L;
+    }
+}
@@ -4,13 +4,26 @@ import com.bookmarkservice.bookmark.dto.BookmarkResponseDto;
 import com.bookmarkservice.category.dto.CategoryRequestDto;
 import com.bookmarkservice.category.dto.CategoryResponseDto;
 import com.bookmarkservice.category.dto.CategoryUpdateRequestDto;
-import com.bookmarkservice.category.dto.ShareCategoryResponseDto;
+import com.bookmarkservice.category.service.CategoryImportService;
 import com.bookmarkservice.category.service.CategoryService;
+import com.bookmarkservice.category.service.SharedCategoryService;
+import com.bookmarkservice.category.service.SharedCategorySnapshot;
+import com.bookmarkservice.common.dto.CursorPageResponseDto;
+import com.bookmarkservice.common.fields.FieldSelection;
+import com.bookmarkservice.common.version.UserDataVersionService;
 import com.bookmarkservice.share.service.ShareTokenService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -20,7 +33,10 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryImportService categoryImportService;
+    private final SharedCategoryService sharedCategoryService;
     private final ShareTokenService shareTokenService;
+    private final UserDataVersionService userDataVersionService;
 
     // 사용자 카테고리 등록
     @PostMapping
@@ -41,35 +57,79 @@ public class CategoryController {
         return ResponseEntity.ok(token);
     }
 
-    // 공유 받은 카테고리를 사용자 카테고리에 추가
+    // 공유 받은 카테고리를 북마크까지 사용자 카테고리로 복사 (북마크가 많으면 백그라운드에서 복사)
     @PostMapping("/share/{token}/import")
     public ResponseEntity<CategoryResponseDto> importCategory(
             @AuthenticationPrincipal String userId,
             @PathVariable String token
     ) {
-        return ResponseEntity.ok(categoryService.importCategory(userId, token));
+        return ResponseEntity.ok(categoryImportService.importCategory(userId, token));
     }
 
-    // 사용자 카테고리 전체 조회
+    // 사용자 카테고리 전체 조회 (fields=title,isPublic 처럼 응답 필드 선택 가능, 변경이 없으면 304)
     @GetMapping
-    public ResponseEntity<List<CategoryResponseDto>> getAll(
-            @AuthenticationPrincipal String userId
+    public ResponseEntity<MappingJacksonValue> getAll(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(categoryService.getMyCategories(userId));
+        if (userDataVersionService.checkNotModified(userId, request)) {
+            return null; // 304
+        }
+        FieldSelection selection = FieldSelection.parse(fields, CategoryResponseDto.FIELDS);
+        return ResponseEntity.ok(selection.wrap(categoryService.getMyCategories(userId, selection)));
     }
 
-    // 사용자 카테고리에 포함되는 북마크 리스트 조회
+    // 사용자 카테고리에 포함되는 북마크 리스트 조회 (응답 필드 선택 가능)
     @GetMapping("/{categoryId}/bookmarks")
-    public ResponseEntity<List<BookmarkResponseDto>> getBookmarksByCategory(
+    public ResponseEntity<MappingJacksonValue> getBookmarksByCategory(
             @AuthenticationPrincipal String userId,
-            @PathVariable String categoryId) {
-        return ResponseEntity.ok(categoryService.getBookmarksByCategory(userId, categoryId));
+            @PathVariable String categoryId,
+            @RequestParam(value = "fields", required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, BookmarkResponseDto.FIELDS);
+        return ResponseEntity.ok(selection.wrap(categoryService.getBookmarksByCategory(userId, categoryId)));
+    }
+
+    // 사용자 카테고리에 포함되는 북마크 커서 기반 페이지 조회 (최신순, 응답 필드 선택 가능)
+    @GetMapping("/{categoryId}/bookmarks/page")
+    public ResponseEntity<MappingJacksonValue> getBookmarksByCategoryPage(
+            @AuthenticationPrincipal String userId,
+            @PathVariable String categoryId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "fields", required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, BookmarkResponseDto.FIELDS);
+        return ResponseEntity.ok(selection.wrap(
+                categoryService.getBookmarksByCategoryPage(userId, categoryId, cursor, size, selection)));
     }
 
-    // 공유 받은 카테고리 조회
+    // 공유 받은 카테고리 조회 (인증 불필요, 논블로킹)
+    // 미리 직렬화/압축해 둔 스냅샷을 그대로 전송, ETag 가 같으면 304
     @GetMapping("/share/{token}")
-    public ResponseEntity<ShareCategoryResponseDto> getSharedCategory(@PathVariable String token) {
-        return ResponseEntity.ok(categoryService.getCategoryByShareToken(token));
+    public Mono<ResponseEntity<Resource>> getSharedCategory(
+            @PathVariable String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = SharedCategorySnapshot.acceptsGzip(acceptEncoding);
+        return sharedCategoryService.getSnapshot(token).map(snapshot -> {
+            String etag = snapshot.etag(gzip);
+            if (snapshot.matches(ifNoneMatch, gzip)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .contentLength(snapshot.contentLength(gzip));
+            if (gzip) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return response.body(new InputStreamResource(snapshot.open(gzip)));
+        });
     }
 
     // 사용자 카테고리 수정
@@ -1,13 +1,20 @@
 package com.bookmarkservice.category.controller;
 
+import com.bookmarkservice.bookmark.dto.BookmarkResponseDto;
+import com.bookmarkservice.bookmark.service.BookmarkService;
 import com.bookmarkservice.category.dto.PublicCategoryResponse;
+import com.bookmarkservice.category.dto.PublicCategorySort;
 import com.bookmarkservice.category.service.CategorySearchService;
+import com.bookmarkservice.common.dto.CursorPageResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -17,14 +24,34 @@ import java.util.List;
 public class CategorySearchController {
 
     private final CategorySearchService categorySearchService;
+    private final BookmarkService bookmarkService;
 
-    @GetMapping("/search/title")
-    public ResponseEntity<List<PublicCategoryResponse>> searchByTitle(@RequestParam String keyword) {
-        return ResponseEntity.ok(categorySearchService.searchByTitle(keyword));
+    // 기본은 JSON 배열, Accept: application/x-ndjson 이면 한 건씩 스트리밍
+    // sort: newest(최신순) | bookmarks(북마크 많은 순) | relevance(태그 검색 기본, 겹치는 태그 비율순), page/size 페이지 (size 최대 50)
+    @GetMapping(value = "/search/title", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<PublicCategoryResponse> searchByTitle(
+            @RequestParam String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", required = false) String sort) {
+        return categorySearchService.searchByTitle(keyword, page, size, PublicCategorySort.from(sort, PublicCategorySort.NEWEST));
     }
 
-    @GetMapping("/search/tags")
-    public ResponseEntity<List<PublicCategoryResponse>> searchByTags(@RequestParam List<String> tagIds) {
-        return ResponseEntity.ok(categorySearchService.searchByTags(tagIds));
+    @GetMapping(value = "/search/tags", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<PublicCategoryResponse> searchByTags(
+            @RequestParam List<String> tagIds,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", required = false) String sort) {
+        return categorySearchService.searchByTags(tagIds, page, size, PublicCategorySort.from(sort, PublicCategorySort.RELEVANCE));
+    }
+
+    // 공개 카테고리 북마크 커서 기반 페이지 조회 (최신순, 인증 불필요)
+    @GetMapping("/{categoryId}/bookmarks")
+    public ResponseEntity<CursorPageResponseDto<BookmarkResponseDto>> getBookmarks(
+            @PathVariable String categoryId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookmarkService.getPublicCategoryBookmarksPage(categoryId, cursor, size));
     }
 }
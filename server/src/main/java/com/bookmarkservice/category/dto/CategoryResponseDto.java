@@ -1,14 +1,21 @@
 package com.bookmarkservice.category.dto;
 
 import com.bookmarkservice.category.entity.Category;
+import com.bookmarkservice.common.fields.FieldSelection;
 import com.bookmarkservice.tag.dto.TagResponseDto;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Getter
+@JsonFilter(FieldSelection.FILTER_ID)
 public class CategoryResponseDto {
+    // fields= 로 선택 가능한 응답 필드
+    public static final Set<String> FIELDS = Set.of("id", "title", "tagNames", "isPublic", "createdAt");
+
     private final String id;
     private final String title;
     private final List<String> tagNames;
@@ -18,7 +25,7 @@ public class CategoryResponseDto {
     public CategoryResponseDto(Category category, List<TagResponseDto> tags) {
         this.id = category.getId();
         this.title = category.getTitle();
-        this.tagNames = tags.stream().map(TagResponseDto::getName).toList();
+        this.tagNames = tags == null ? null : tags.stream().map(TagResponseDto::getName).toList(); // null: 태그 미선택
         this.isPublic = category.getIsPublic();
         this.createdAt = category.getCreatedAt();
     }
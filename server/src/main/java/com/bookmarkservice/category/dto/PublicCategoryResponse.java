@@ -13,6 +13,7 @@ public class PublicCategoryResponse {
     private String title;
     private List<String> tagIds;
     private LocalDateTime createdAt;
+    private long bookmarkCount;
     private UserInfo user;
 
     @Data
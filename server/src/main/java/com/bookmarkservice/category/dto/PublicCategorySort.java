@@ -0,0 +1,34 @@
+package com.bookmarkservice.category.dto;
+
+import com.bookmarkservice.common.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+// 공개 카테고리 탐색 정렬 (NEWEST, BOOKMARKS 는 각각 부분 인덱스 public_created_idx, public_bookmark_count_idx 사용)
+// RELEVANCE 는 태그 검색 전용 (태그 겹침 점수순, 집계로 계산)
+public enum PublicCategorySort {
+    NEWEST(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("_id"))),
+    BOOKMARKS(Sort.by(Sort.Order.desc("bookmarkCount"), Sort.Order.desc("createdAt"), Sort.Order.desc("_id"))),
+    RELEVANCE(null);
+
+    private final Sort sort;
+
+    PublicCategorySort(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort toSort() {
+        return sort;
+    }
+
+    public static PublicCategorySort from(String value, PublicCategorySort defaultSort) {
+        if (value == null || value.isBlank()) {
+            return defaultSort;
+        }
+        for (PublicCategorySort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new BadRequestException("지원하지 않는 정렬입니다: " + value);
+    }
+}
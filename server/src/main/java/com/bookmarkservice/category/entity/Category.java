@@ -1,7 +1,10 @@
 package com.bookmarkservice.category.entity;
 
+import com.bookmarkservice.tag.entity.TagSnapshot;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -13,12 +16,26 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "categories")
+// 공개 카테고리 탐색용 부분 인덱스 (isPublic: true 문서만 색인)
+@CompoundIndexes({
+        @CompoundIndex(name = "public_created_idx", def = "{'createdAt': -1, '_id': -1}",
+                partialFilter = "{'isPublic': true}"),
+        @CompoundIndex(name = "public_bookmark_count_idx", def = "{'bookmarkCount': -1, 'createdAt': -1, '_id': -1}",
+                partialFilter = "{'isPublic': true}"),
+        @CompoundIndex(name = "public_title_tokens_idx", def = "{'titleTokens': 1, 'createdAt': -1}",
+                partialFilter = "{'isPublic': true}"),
+        @CompoundIndex(name = "public_tag_created_idx", def = "{'tagIds': 1, 'createdAt': -1}",
+                partialFilter = "{'isPublic': true}")
+})
 public class Category {
     @Id
     private String id;
     private String userId;
     private String title;
     private List<String> tagIds;
+    private List<TagSnapshot> tags; // tagIds 와 같은 순서의 태그 사본
     private Boolean isPublic;
     private LocalDateTime createdAt;
+    private List<String> titleTokens; // 제목 바이그램 (공개 카테고리 제목 검색용)
+    private Long bookmarkCount;       // 공개 카테고리에 노출되는 북마크 수 (공개 북마크 읽기 모델이 갱신)
 }
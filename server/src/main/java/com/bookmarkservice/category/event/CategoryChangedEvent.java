@@ -0,0 +1,12 @@
+package com.bookmarkservice.category.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 카테고리 생성/수정/공개 여부 변경/삭제 후 발행
+@Getter
+@AllArgsConstructor
+public class CategoryChangedEvent {
+    private final String userId;
+    private final String categoryId;
+}
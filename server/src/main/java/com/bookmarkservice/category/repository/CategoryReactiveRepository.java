@@ -0,0 +1,32 @@
+package com.bookmarkservice.category.repository;
+
+import com.bookmarkservice.category.entity.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+// 인증 없이 호출되는 공개 조회용 (요청 스레드를 점유하지 않음)
+// 모두 isPublic: true 조건을 포함해 부분 인덱스를 사용하며, 페이지 크기와 실행 시간을 제한
+public interface CategoryReactiveRepository extends ReactiveMongoRepository<Category, String>, CategoryReactiveRepositoryCustom {
+
+    long MAX_QUERY_TIME_MS = 2000;
+
+    // 제목 바이그램을 모두 포함하고 제목에 검색어가 그대로 들어 있는 공개 카테고리
+    // 바이그램 인덱스로 후보를 좁히고, 바이그램이 흩어져 있는 제목은 정규식으로 제외
+    @Meta(maxExecutionTimeMs = MAX_QUERY_TIME_MS)
+    @Query("{ 'isPublic' : true, 'titleTokens' : { $all : ?0 }, 'title' : { $regex : ?1, $options : 'i' } }")
+    Flux<Category> findPublicByTitleTokens(List<String> tokens, String regex, Pageable pageable);
+
+    // 1글자 검색어 (바이그램이 없음)
+    @Meta(maxExecutionTimeMs = MAX_QUERY_TIME_MS)
+    @Query("{ 'isPublic' : true, 'title' : { $regex : ?0, $options : 'i' } }")
+    Flux<Category> findPublicByTitleRegex(String regex, Pageable pageable);
+
+    @Meta(maxExecutionTimeMs = MAX_QUERY_TIME_MS)
+    @Query("{ 'isPublic' : true, 'tagIds' : { $in : ?0 } }")
+    Flux<Category> findPublicByTagIds(List<String> tagIds, Pageable pageable);
+}
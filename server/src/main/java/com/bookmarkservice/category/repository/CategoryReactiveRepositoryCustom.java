@@ -0,0 +1,11 @@
+package com.bookmarkservice.category.repository;
+
+import com.bookmarkservice.category.entity.Category;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+public interface CategoryReactiveRepositoryCustom {
+    // 태그 겹침 순위 (Jaccard: 공통 태그 수 / 합집합 태그 수), skip/limit 까지 DB 에서 처리
+    Flux<Category> findPublicRankedByTagOverlap(List<String> tagIds, long skip, int limit);
+}
@@ -0,0 +1,50 @@
+package com.bookmarkservice.category.repository;
+
+import com.bookmarkservice.category.entity.Category;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CategoryReactiveRepositoryCustomImpl implements CategoryReactiveRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    // 부분 인덱스(public_tag_created_idx)로 후보를 고른 뒤 점수 계산 -> 정렬 -> skip/limit
+    // $sort 다음 $limit 은 상위 N 건만 메모리에 유지 (전체 일치 결과를 애플리케이션으로 가져오지 않음)
+    @Override
+    public Flux<Category> findPublicRankedByTagOverlap(List<String> tagIds, long skip, int limit) {
+        List<String> queryTagIds = tagIds.stream().distinct().toList();
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("isPublic").is(true).and("tagIds").in(queryTagIds)),
+                Aggregation.stage(new Document("$addFields", new Document()
+                        .append("matchedTagCount", new Document("$size",
+                                new Document("$setIntersection", List.of("$tagIds", queryTagIds))))
+                        .append("unionTagCount", new Document("$size",
+                                new Document("$setUnion", List.of("$tagIds", queryTagIds)))))),
+                Aggregation.stage(new Document("$addFields", new Document("tagScore",
+                        new Document("$divide", List.of("$matchedTagCount", "$unionTagCount"))))),
+                Aggregation.stage(new Document("$sort", new Document()
+                        .append("tagScore", -1)
+                        .append("matchedTagCount", -1)
+                        .append("bookmarkCount", -1)
+                        .append("createdAt", -1)
+                        .append("_id", -1))),
+                Aggregation.skip(skip),
+                Aggregation.limit(limit),
+                Aggregation.project().andExclude("titleTokens", "matchedTagCount", "unionTagCount", "tagScore")
+        ).withOptions(AggregationOptions.builder()
+                .maxTime(Duration.ofMillis(CategoryReactiveRepository.MAX_QUERY_TIME_MS))
+                .build());
+
+        return reactiveMongoTemplate.aggregate(aggregation, Category.class, Category.class);
+    }
+}
@@ -5,10 +5,8 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
 
-public interface CategoryRepository extends MongoRepository<Category, String> {
+public interface CategoryRepository extends MongoRepository<Category, String>, CategoryRepositoryCustom {
     List<Category> findByUserIdOrderByCreatedAtDesc(String userId);
-    List<Category> findByUserIdAndTagIdsContaining(String userId, String tagId);
-    List<Category> findByIsPublicTrueAndTitleContainingIgnoreCase(String keyword);
-    List<Category> findByIsPublicTrueAndTagIdsIn(List<String> tagIds);
     List<Category> findByIsPublicTrue();
+    List<Category> findByUserIdAndIsPublicTrue(String userId);
 }
@@ -0,0 +1,11 @@
+package com.bookmarkservice.category.repository;
+
+import com.bookmarkservice.category.entity.Category;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CategoryRepositoryCustom {
+    // 사용자 카테고리 (최신순). fields 가 있으면 해당 문서 필드만 조회 (null 이면 전체)
+    List<Category> findByUserId(String userId, Collection<String> fields);
+}
@@ -0,0 +1,28 @@
+package com.bookmarkservice.category.repository;
+
+import com.bookmarkservice.category.entity.Category;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Category> findByUserId(String userId, Collection<String> fields) {
+        Query query = new Query(Criteria.where("userId").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        if (fields != null) {
+            fields.forEach(field -> query.fields().include(field));
+        }
+
+        return mongoTemplate.find(query, Category.class);
+    }
+}
@@ -0,0 +1,38 @@
+package com.bookmarkservice.category.service;
+
+import com.bookmarkservice.bookmark.service.BookmarkSearchTokenizer;
+import com.bookmarkservice.category.entity.Category;
+import com.bookmarkservice.common.mongo.MongoBackfill;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기존 카테고리 문서에 제목 검색 토큰을 채워 넣는 기동 시 작업
+// (bookmarkCount 는 공개 북마크 읽기 모델 동기화/재구성 때 채워짐)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryBackfillRunner implements ApplicationRunner {
+
+    private final MongoBackfill mongoBackfill;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            long updated = mongoBackfill.backfill(Category.class, Criteria.where("titleTokens").exists(false),
+                    List.of("title"),
+                    c -> Update.update("titleTokens", BookmarkSearchTokenizer.tokensOf(c.getTitle(), null, null)));
+            if (updated > 0) {
+                log.info("카테고리 제목 토큰 채우기 완료: {}건", updated);
+            }
+        } catch (Exception e) {
+            log.error("카테고리 제목 토큰 채우기 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.bookmarkservice.category.service;
+
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.bookmark.repository.BookmarkRepository;
+import com.bookmarkservice.bookmark.service.BookmarkSearchTokenizer;
+import com.bookmarkservice.bookmark.service.BookmarkUrlNormalizer;
+import com.bookmarkservice.category.dto.CategoryResponseDto;
+import com.bookmarkservice.category.entity.Category;
+import com.bookmarkservice.category.event.CategoryChangedEvent;
+import com.bookmarkservice.category.repository.CategoryRepository;
+import com.bookmarkservice.common.exception.NotFoundException;
+import com.bookmarkservice.share.service.ShareTokenService;
+import com.bookmarkservice.tag.dto.TagResponseDto;
+import com.bookmarkservice.tag.entity.TagSnapshot;
+import com.bookmarkservice.tag.service.TagService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 공유 카테고리 가져오기: 카테고리와 해당 북마크를 가져오는 사용자의 태그 공간으로 깊은 복사
+// 북마크가 많은 카테고리는 전용 작업 스레드에서 복사하고 요청은 새 카테고리만 바로 반환
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryImportService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int BACKGROUND_THRESHOLD = 500; // 이 개수를 넘으면 백그라운드 복사
+
+    private final CategoryRepository categoryRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final TagService tagService;
+    private final ShareTokenService shareTokenService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 대기열이 가득 차면 요청 스레드에서 직접 복사 (가져오기 요청 폭주 시 자연스러운 배압)
+    private final ThreadPoolExecutor copyExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100), namedThreads(), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        copyExecutor.shutdown();
+        if (!copyExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("카테고리 가져오기 작업이 종료 대기 시간 안에 끝나지 않았습니다: 대기 {}건", copyExecutor.getQueue().size());
+            copyExecutor.shutdownNow();
+        }
+    }
+
+    public CategoryResponseDto importCategory(String userId, String token) {
+        // 공유 토큰 → 원본 카테고리 ID
+        String categoryId = shareTokenService.getCategoryIdByToken(token);
+
+        // 원본 카테고리 로드
+        Category source = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new NotFoundException("카테고리를 찾을 수 없습니다."));
+
+        // 원본 태그 ID → 가져오는 사용자의 태그 사본 (이름 기준, 없는 태그는 한 번에 생성)
+        Map<String, TagSnapshot> tagMapping = mapTags(userId, source);
+        List<TagSnapshot> tags = List.copyOf(tagMapping.values());
+
+        // 새 카테고리 생성 (복사본은 기본 비공개)
+        Category copy = Category.builder()
+                .userId(userId)
+                .title(source.getTitle())
+                .titleTokens(BookmarkSearchTokenizer.tokensOf(source.getTitle(), null, null))
+                .tagIds(source.getTagIds() == null ? null : tags.stream().map(TagSnapshot::getTagId).toList())
+                .tags(source.getTagIds() == null ? null : tags)
+                .isPublic(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        categoryRepository.save(copy);
+        eventPublisher.publishEvent(new CategoryChangedEvent(userId, copy.getId()));
+
+        // 태그를 고르지 않은 카테고리는 북마크가 연결되지 않으므로 복사할 것이 없음
+        if (!tagMapping.isEmpty()) {
+            long count = bookmarkRepository.countByUserIdAndTagIdsIn(source.getUserId(), source.getTagIds());
+            if (count > BACKGROUND_THRESHOLD) {
+                copyExecutor.execute(() -> copyBookmarksSafely(userId, source, tagMapping));
+            } else {
+                copyBookmarks(userId, source, tagMapping);
+            }
+        }
+
+        return new CategoryResponseDto(copy, copy.getTags() == null ? null
+                : tagService.tagsOf(copy.getTags(), copy.getTagIds(), Map.of()));
+    }
+
+    private Map<String, TagSnapshot> mapTags(String userId, Category source) {
+        if (source.getTagIds() == null || source.getTagIds().isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, String> sourceNames = source.getTags() != null
+                ? source.getTags().stream().collect(Collectors.toMap(TagSnapshot::getTagId, TagSnapshot::getName, (a, b) -> a))
+                : tagService.findTagsByIds(source.getTagIds()).stream()
+                        .collect(Collectors.toMap(TagResponseDto::getId, TagResponseDto::getName, (a, b) -> a));
+
+        Map<String, TagSnapshot> tagsByName = tagService.findTagsByName(userId);
+        tagService.createMissingTags(userId, sourceNames.values(), tagsByName);
+
+        Map<String, TagSnapshot> mapping = new LinkedHashMap<>();
+        for (String sourceTagId : source.getTagIds()) {
+            String name = sourceNames.get(sourceTagId);
+            if (name != null) {
+                mapping.put(sourceTagId, tagsByName.get(TagService.nameKey(name)));
+            }
+        }
+        return mapping;
+    }
+
+    private void copyBookmarksSafely(String userId, Category source, Map<String, TagSnapshot> tagMapping) {
+        try {
+            copyBookmarks(userId, source, tagMapping);
+        } catch (Exception e) {
+            // 카테고리는 이미 만들어졌으므로 기록만 (다시 가져오면 이미 있는 URL 에는 태그만 추가)
+            log.error("카테고리 북마크 복사 실패: userId={}, 원본={}, 오류={}", userId, source.getId(), e.getMessage(), e);
+        }
+    }
+
+    // 원본 북마크를 배치 단위로 읽어 순서 없는 벌크 insert
+    // 이미 가진 URL 은 새로 만들지 않고 기존 북마크에 카테고리 태그만 추가 (가져온 카테고리에 보이도록)
+    private void copyBookmarks(String userId, Category source, Map<String, TagSnapshot> tagMapping) {
+        long startedAt = System.nanoTime();
+        Set<String> seenUrlHashes = new HashSet<>();
+        List<Bookmark> batch = new ArrayList<>(BATCH_SIZE);
+        long copied = 0;
+        long tagged = 0;
+
+        try (Stream<Bookmark> bookmarks = bookmarkRepository.streamByUserIdAndTagIdsIn(source.getUserId(), source.getTagIds())) {
+            for (Bookmark bookmark : (Iterable<Bookmark>) bookmarks::iterator) {
+                batch.add(bookmark);
+                if (batch.size() == BATCH_SIZE) {
+                    BatchResult result = insertBatch(userId, batch, tagMapping, seenUrlHashes);
+                    copied += result.inserted();
+                    tagged += result.tagged();
+                    batch.clear();
+                }
+            }
+        }
+        BatchResult result = insertBatch(userId, batch, tagMapping, seenUrlHashes);
+        copied += result.inserted();
+        tagged += result.tagged();
+
+        if (copied > 0 || tagged > 0) {
+            eventPublisher.publishEvent(new BookmarksChangedEvent(userId, null));
+        }
+        log.info("카테고리 북마크 복사 완료: userId={}, 원본={}, 복사={}, 기존 북마크 태그 추가={}, {}ms",
+                userId, source.getId(), copied, tagged, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private BatchResult insertBatch(String userId, List<Bookmark> batch, Map<String, TagSnapshot> tagMapping,
+                                    Set<String> seenUrlHashes) {
+        if (batch.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        // 원본 안의 중복 URL 제외
+        Map<String, Bookmark> byUrlHash = new LinkedHashMap<>();
+        for (Bookmark bookmark : batch) {
+            String urlHash = BookmarkUrlNormalizer.hash(bookmark.getUrl());
+            if (seenUrlHashes.add(urlHash)) {
+                byUrlHash.put(urlHash, bookmark);
+            }
+        }
+
+        // 가져오는 사용자가 이미 가진 URL: 태그별로 모아 태그마다 한 번에 추가 (이미 붙은 태그는 건너뜀)
+        long tagged = 0;
+        if (!byUrlHash.isEmpty()) {
+            Map<String, TagSnapshot> tagsById = new LinkedHashMap<>();
+            Map<String, List<String>> existingIdsByTagId = new LinkedHashMap<>();
+            List<Bookmark> existingBookmarks = bookmarkRepository.findByUrlHashes(userId, byUrlHash.keySet());
+            for (Bookmark existing : existingBookmarks) {
+                for (TagSnapshot tag : mappedTags(byUrlHash.get(existing.getUrlHash()), tagMapping)) {
+                    tagsById.putIfAbsent(tag.getTagId(), tag);
+                    existingIdsByTagId.computeIfAbsent(tag.getTagId(), id -> new ArrayList<>()).add(existing.getId());
+                }
+            }
+            existingBookmarks.forEach(existing -> byUrlHash.remove(existing.getUrlHash()));
+            for (Map.Entry<String, List<String>> entry : existingIdsByTagId.entrySet()) {
+                tagged += bookmarkRepository.addTagOwnedMany(userId, entry.getValue(), tagsById.get(entry.getKey()));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Bookmark> copies = byUrlHash.entrySet().stream()
+                .map(entry -> {
+                    Bookmark b = entry.getValue();
+                    List<TagSnapshot> tags = mappedTags(b, tagMapping);
+                    return Bookmark.builder()
+                            .userId(userId)
+                            .url(b.getUrl())
+                            .title(b.getTitle())
+                            .description(b.getDescription())
+                            .favorite(false)
+                            .tagIds(tags.stream().map(TagSnapshot::getTagId).toList())
+                            .tags(tags)
+                            .createdAt(now)
+                            .searchTokens(BookmarkSearchTokenizer.tokensOf(b.getTitle(), b.getDescription(), b.getUrl()))
+                            .urlHash(entry.getKey())
+                            .build();
+                })
+                .toList();
+
+        return new BatchResult(bookmarkRepository.insertUnordered(copies), tagged);
+    }
+
+    // 카테고리에 속한 태그만 가져오는 사용자의 태그로 옮김
+    private static List<TagSnapshot> mappedTags(Bookmark bookmark, Map<String, TagSnapshot> tagMapping) {
+        return bookmark.getTagIds().stream()
+                .map(tagMapping::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // inserted: 새로 만든 북마크 수, tagged: 태그가 추가된 기존 북마크 수 (태그별 합계)
+    private record BatchResult(int inserted, long tagged) {
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "category-import-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,47 +1,109 @@
 package com.bookmarkservice.category.service;
 
+import com.bookmarkservice.bookmark.service.BookmarkSearchTokenizer;
 import com.bookmarkservice.category.dto.PublicCategoryResponse;
+import com.bookmarkservice.category.dto.PublicCategorySort;
 import com.bookmarkservice.category.entity.Category;
-import com.bookmarkservice.category.repository.CategoryRepository;
-import com.bookmarkservice.user.entity.User;
-import com.bookmarkservice.user.repository.UserRepository;
+import com.bookmarkservice.category.repository.CategoryReactiveRepository;
+import com.bookmarkservice.common.exception.BadRequestException;
+import com.bookmarkservice.user.service.UserNicknameCache;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
+// 공개 카테고리 검색 (인증 불필요, 리액티브)
+// 결과를 한 건씩 흘려보내므로 느린 클라이언트가 많아도 요청 스레드를 점유하지 않음
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CategorySearchService {
 
-    private final CategoryRepository categoryRepository;
-    private final UserRepository userRepository;
+    private static final int OWNER_BATCH_SIZE = 500; // 작성자 $in 조회 단위
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_RESULT_WINDOW = 1000; // page * size 상한
 
-    public List<PublicCategoryResponse> searchByTitle(String keyword) {
-        List<Category> categories = categoryRepository.findByIsPublicTrueAndTitleContainingIgnoreCase(keyword);
-        return convertToDto(categories);
+    private final CategoryReactiveRepository categoryReactiveRepository;
+    private final UserNicknameCache userNicknameCache;
+
+    // 제목 검색: 제목에 검색어가 들어 있는 카테고리 (바이그램으로 후보를 좁힘, 1글자 검색어는 제목 정규식만)
+    public Flux<PublicCategoryResponse> searchByTitle(String keyword, int page, int size, PublicCategorySort sort) {
+        if (keyword == null || keyword.isBlank()) {
+            return Flux.empty();
+        }
+        if (sort == PublicCategorySort.RELEVANCE) {
+            throw new BadRequestException("제목 검색은 newest, bookmarks 정렬만 지원합니다.");
+        }
+        Pageable pageable = pageable(page, size, sort);
+        if (pageable == null) {
+            return Flux.empty();
+        }
+
+        List<String> tokens = BookmarkSearchTokenizer.queryTokensOf(keyword);
+        String regex = Pattern.quote(keyword.trim());
+        return convertToDto(tokens.isEmpty()
+                ? categoryReactiveRepository.findPublicByTitleRegex(regex, pageable)
+                : categoryReactiveRepository.findPublicByTitleTokens(tokens, regex, pageable));
+    }
+
+    // 태그 검색: 기본은 겹치는 태그 비율(Jaccard)순
+    public Flux<PublicCategoryResponse> searchByTags(List<String> tagIds, int page, int size, PublicCategorySort sort) {
+        Pageable pageable = pageable(page, size, sort);
+        if (tagIds == null || tagIds.isEmpty() || pageable == null) {
+            return Flux.empty();
+        }
+        if (sort == PublicCategorySort.RELEVANCE) {
+            return convertToDto(categoryReactiveRepository.findPublicRankedByTagOverlap(
+                    tagIds, pageable.getOffset(), pageable.getPageSize()));
+        }
+        return convertToDto(categoryReactiveRepository.findPublicByTagIds(tagIds, pageable));
+    }
+
+    // 결과 창(page * size)을 넘는 깊은 페이지는 null (빈 결과)
+    private Pageable pageable(int page, int size, PublicCategorySort sort) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        if ((long) pageNumber * pageSize >= MAX_RESULT_WINDOW) {
+            return null;
+        }
+        return sort.toSort() == null
+                ? PageRequest.of(pageNumber, pageSize)
+                : PageRequest.of(pageNumber, pageSize, sort.toSort());
     }
 
-    public List<PublicCategoryResponse> searchByTags(List<String> tagIds) {
-        List<Category> categories = categoryRepository.findByIsPublicTrueAndTagIdsIn(tagIds);
-        return convertToDto(categories);
+    // 작성자 닉네임은 배치마다 한 번에 조회, 작성자가 없는(탈퇴 등) 카테고리는 제외
+    private Flux<PublicCategoryResponse> convertToDto(Flux<Category> categories) {
+        return categories.buffer(OWNER_BATCH_SIZE)
+                .concatMap(batch -> userNicknameCache
+                        .getNicknames(batch.stream().map(Category::getUserId).toList())
+                        .flatMapIterable(nicknames -> batch.stream()
+                                .filter(category -> isOwned(category, nicknames))
+                                .map(category -> PublicCategoryResponse.builder()
+                                        .categoryId(category.getId())
+                                        .title(category.getTitle())
+                                        .tagIds(category.getTagIds())
+                                        .createdAt(category.getCreatedAt())
+                                        .bookmarkCount(category.getBookmarkCount() == null ? 0 : category.getBookmarkCount())
+                                        .user(PublicCategoryResponse.UserInfo.builder()
+                                                .userId(category.getUserId())
+                                                .username(nicknames.get(category.getUserId()).orElse(null))
+                                                .build())
+                                        .build())
+                                .toList()));
     }
 
-    private List<PublicCategoryResponse> convertToDto(List<Category> categories) {
-        return categories.stream().map(category -> {
-            User user = userRepository.findById(category.getUserId())
-                    .orElseThrow(() -> new RuntimeException("사용자 정보를 찾을 수 없습니다."));
-
-            return PublicCategoryResponse.builder()
-                    .categoryId(category.getId())
-                    .title(category.getTitle())
-                    .tagIds(category.getTagIds())
-                    .createdAt(category.getCreatedAt())
-                    .user(PublicCategoryResponse.UserInfo.builder()
-                            .userId(user.getId())
-                            .username(user.getNickname())  // 또는 user.getNickname() 등
-                            .build())
-                    .build();
-        }).toList();
+    private boolean isOwned(Category category, Map<String, Optional<String>> nicknames) {
+        if (!nicknames.containsKey(category.getUserId())) {
+            log.warn("작성자가 없는 공개 카테고리 제외: categoryId={}, userId={}", category.getId(), category.getUserId());
+            return false;
+        }
+        return true;
     }
 }
@@ -1,37 +1,50 @@
 package com.bookmarkservice.category.service;
 
 import com.bookmarkservice.bookmark.dto.BookmarkResponseDto;
-import com.bookmarkservice.bookmark.entity.Bookmark;
-import com.bookmarkservice.bookmark.repository.BookmarkRepository;
+import com.bookmarkservice.bookmark.service.BookmarkSearchTokenizer;
 import com.bookmarkservice.bookmark.service.BookmarkService;
 import com.bookmarkservice.category.dto.CategoryRequestDto;
 import com.bookmarkservice.category.dto.CategoryResponseDto;
 import com.bookmarkservice.category.dto.CategoryUpdateRequestDto;
-import com.bookmarkservice.category.dto.ShareCategoryResponseDto;
 import com.bookmarkservice.category.entity.Category;
+import com.bookmarkservice.category.event.CategoryChangedEvent;
 import com.bookmarkservice.category.repository.CategoryRepository;
+import com.bookmarkservice.common.dto.CursorPageResponseDto;
 import com.bookmarkservice.common.exception.NotFoundException;
-import com.bookmarkservice.share.repository.ShareTokenRepository;
+import com.bookmarkservice.common.fields.FieldSelection;
 import com.bookmarkservice.share.service.ShareTokenService;
 import com.bookmarkservice.tag.dto.ResolvedTagsDto;
 import com.bookmarkservice.tag.dto.TagResponseDto;
 import com.bookmarkservice.tag.service.TagService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
 
+    // 응답 필드별로 읽어야 하는 문서 필드 (_id 는 항상 포함)
+    private static final Map<String, List<String>> DOCUMENT_FIELDS = Map.of(
+            "id", List.of(),
+            "title", List.of("title"),
+            "tagNames", List.of("tagIds", "tags"),
+            "isPublic", List.of("isPublic"),
+            "createdAt", List.of("createdAt")
+    );
+
     private final CategoryRepository categoryRepository;
     private final TagService tagService;
     private final ShareTokenService shareTokenService;
-    private final BookmarkRepository bookmarkRepository;
-    private final ShareTokenRepository shareTokenRepository;
     private final BookmarkService bookmarkService;
+    private final CategoryViewCache categoryViewCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CategoryResponseDto createCategory(String userId, CategoryRequestDto dto) {
         ResolvedTagsDto tags = tagService.resolveTagsFromNames(dto.getTagNames(), userId);
@@ -39,31 +52,57 @@ public class CategoryService {
         Category category = Category.builder()
                 .userId(userId)
                 .title(dto.getTitle())
+                .titleTokens(BookmarkSearchTokenizer.tokensOf(dto.getTitle(), null, null))
                 .tagIds(tags.getTagIds())
+                .tags(tagService.toSnapshots(tags.getTags()))
                 .isPublic(dto.getIsPublic())
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        return new CategoryResponseDto(categoryRepository.save(category), tags.getTags());
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(userId, saved.getId()));
+
+        return new CategoryResponseDto(saved, tags.getTags());
     }
 
-    public List<CategoryResponseDto> getMyCategories(String userId) {
-        List<Category> categories = categoryRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    public List<CategoryResponseDto> getMyCategories(String userId, FieldSelection fields) {
+        List<Category> categories = categoryRepository.findByUserId(userId, fields.documentFields(DOCUMENT_FIELDS));
+        if (!fields.includes("tagNames")) {
+            return categories.stream().map(category -> new CategoryResponseDto(category, null)).toList();
+        }
+
+        // 태그 사본이 없는 카테고리의 태그만 한 번에 조회
+        Set<String> tagIds = categories.stream()
+                .filter(c -> c.getTags() == null && c.getTagIds() != null)
+                .flatMap(c -> c.getTagIds().stream())
+                .collect(Collectors.toSet());
+        Map<String, TagResponseDto> tagMap = tagService.findTagMapByIds(tagIds);
 
         return categories.stream()
-                .map(category -> {
-                    List<TagResponseDto> tagDtos = tagService.findTagsByIds(category.getTagIds());
-                    return new CategoryResponseDto(category, tagDtos);
-                })
+                .map(category -> new CategoryResponseDto(category,
+                        tagService.tagsOf(category.getTags(), category.getTagIds(), tagMap)))
                 .toList();
     }
 
+    // 가장 많이 열리는 화면이라 태그까지 채운 전체 필드 응답을 캐시 (필드 선택은 직렬화 시 적용)
     public List<BookmarkResponseDto> getBookmarksByCategory(String userId, String categoryId) {
+        return categoryViewCache.get(userId, categoryId, () -> {
+            Category category = categoryRepository.findById(categoryId)
+                    .filter(c -> c.getUserId().equals(userId))
+                    .orElseThrow(() -> new NotFoundException("카테고리를 찾을 수 없습니다."));
+
+            return CategoryViewCache.View.of(category.getTagIds(),
+                    bookmarkService.getBookmarksByTagIds(userId, category.getTagIds(), FieldSelection.all()));
+        });
+    }
+
+    public CursorPageResponseDto<BookmarkResponseDto> getBookmarksByCategoryPage(String userId, String categoryId, String cursor, int size,
+                                                                               FieldSelection fields) {
         Category category = categoryRepository.findById(categoryId)
                 .filter(c -> c.getUserId().equals(userId))
                 .orElseThrow(() -> new NotFoundException("카테고리를 찾을 수 없습니다."));
 
-        return bookmarkService.getBookmarksByTagIds(userId, category.getTagIds());
+        return bookmarkService.getBookmarksByTagIdsPage(userId, category.getTagIds(), cursor, size, fields);
     }
 
 
@@ -75,10 +114,13 @@ public class CategoryService {
         ResolvedTagsDto tags = tagService.resolveTagsFromNames(dto.getTagNames(), userId);
 
         category.setTitle(dto.getTitle());
+        category.setTitleTokens(BookmarkSearchTokenizer.tokensOf(dto.getTitle(), null, null));
         category.setTagIds(tags.getTagIds());
+        category.setTags(tagService.toSnapshots(tags.getTags()));
         category.setIsPublic(dto.getIsPublic());
 
         categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(userId, categoryId));
 
         return new CategoryResponseDto(category, tags.getTags());
     }
@@ -90,58 +132,7 @@ public class CategoryService {
 
         category.setIsPublic(!category.getIsPublic());
         categoryRepository.save(category);
-    }
-
-    public ShareCategoryResponseDto getCategoryByShareToken(String token) {
-        // 1. 토큰 → 카테고리 ID 조회
-        String categoryId = shareTokenService.getCategoryIdByToken(token);
-
-        // 2. 카테고리 조회
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new NotFoundException("카테고리를 찾을 수 없습니다."));
-
-        // 3. 태그 조회
-        List<TagResponseDto> tags = tagService.findTagsByIds(category.getTagIds());
-
-        // 4. 해당 태그 포함하는 북마크 조회 (최신순)
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserIdAndTagIdsInOrderByCreatedAtDesc(
-                category.getUserId(), category.getTagIds()
-        );
-
-        // 5. 북마크 DTO 변환
-        List<BookmarkResponseDto> bookmarkDtos = bookmarks.stream()
-                .map(b -> new BookmarkResponseDto(b, tagService.findTagsByIds(b.getTagIds())))
-                .toList();
-
-        // 6. 응답 생성
-        return ShareCategoryResponseDto.builder()
-                .id(category.getId())
-                .title(category.getTitle())
-                .tagNames(tags.stream().map(TagResponseDto::getName).toList())
-                .bookmarks(bookmarkDtos)
-                .build();
-    }
-
-    public CategoryResponseDto importCategory(String userId, String token) {
-        // 공유 토큰 → 원본 카테고리 ID
-        String categoryId = shareTokenService.getCategoryIdByToken(token);
-
-        // 원본 카테고리 로드
-        Category source = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new NotFoundException("카테고리를 찾을 수 없습니다."));
-
-        // 새 카테고리 생성
-        Category copy = Category.builder()
-                .userId(userId)
-                .title(source.getTitle())
-                .tagIds(source.getTagIds()) // 태그는 동일한 것 사용
-                .isPublic(false) // 복사본은 기본 비공개
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        categoryRepository.save(copy);
-
-        return new CategoryResponseDto(copy, tagService.findTagsByIds(copy.getTagIds()));
+        eventPublisher.publishEvent(new CategoryChangedEvent(userId, categoryId));
     }
 
     public void deleteCategory(String userId, String categoryId) {
@@ -152,8 +143,9 @@ public class CategoryService {
         // 1. 카테고리 삭제
         categoryRepository.delete(category);
 
-        // 2. 공유 토큰도 같이 삭제 (선택적)
-        shareTokenRepository.findByCategoryId(categoryId)
-                .ifPresent(shareTokenRepository::delete);
+        // 2. 공유 토큰도 같이 삭제
+        shareTokenService.revokeTokensByCategoryIds(List.of(categoryId));
+
+        eventPublisher.publishEvent(new CategoryChangedEvent(userId, categoryId));
     }
 }
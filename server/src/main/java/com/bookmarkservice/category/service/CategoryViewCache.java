@@ -0,0 +1,163 @@
+package com.bookmarkservice.category.service;
+
+import com.bookmarkservice.bookmark.dto.BookmarkResponseDto;
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.category.event.CategoryChangedEvent;
+import com.bookmarkservice.tag.dto.TagResponseDto;
+import com.bookmarkservice.tag.event.TagChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 카테고리 북마크 목록(태그까지 채운 응답)을 (userId, categoryId) 단위로 캐시
+// 쓰기 이벤트마다 영향받는 카테고리만 골라 제거:
+// - 북마크 변경: 변경된 북마크를 포함하거나, 태그 변화량의 태그를 가진 카테고리 (변화량을 모르면 사용자 전체)
+// - 태그 이름 변경/삭제: 해당 태그를 가진 카테고리 또는 그 태그가 붙은 북마크를 보여주는 카테고리
+// - 카테고리 변경: 해당 카테고리
+// 적중/미스/제거 수는 Micrometer(cache.gets, cache.evictions 등, cache=categoryViews)로 노출
+@Component
+public class CategoryViewCache {
+
+    private static final long MAX_WEIGHT = 500_000; // 캐시 전체 북마크 수 상한
+
+    private final Cache<Key, View> views = Caffeine.newBuilder()
+            .maximumWeight(MAX_WEIGHT)
+            .weigher((Key key, View view) -> view.bookmarks().size() + 1)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .recordStats()
+            .build();
+
+    // 사용자별 쓰기 세대와 캐시된 카테고리 ID 목록 (쓰기마다 전체 키를 훑지 않고 해당 사용자 키만 확인)
+    // 뷰를 읽을 때마다 함께 접근되므로 뷰보다 오래 유지됨
+    private final Cache<String, UserViews> users = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public CategoryViewCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, views, "categoryViews");
+    }
+
+    // 로드 중에 같은 사용자의 쓰기가 있었으면 (로드가 쓰기 이전 상태를 읽었을 수 있으므로) 결과를 캐시에 남기지 않음
+    // 카테고리 ID 는 키 잠금 안에서 목록에 추가/제거되므로 로드 중인 키도 무효화 대상에서 빠지지 않음
+    public List<BookmarkResponseDto> get(String userId, String categoryId, Supplier<View> loader) {
+        UserViews user = users.get(userId, id -> new UserViews());
+        Key key = new Key(userId, categoryId);
+        long generation = user.generation.get();
+        boolean[] loaded = {false};
+        View view = views.get(key, k -> {
+            user.categoryIds.add(categoryId);
+            loaded[0] = true;
+            return loader.get();
+        });
+        if (loaded[0] && user.generation.get() != generation) {
+            views.asMap().remove(key, view);
+        }
+        return view.bookmarks();
+    }
+
+    @EventListener
+    public void onBookmarksChanged(BookmarksChangedEvent event) {
+        if (event.getBookmarkIds() == null || event.getTagDeltas() == null) {
+            // 새로 태그가 붙은 북마크가 어느 카테고리에 들어갈지 알 수 없음
+            invalidateUser(event.getUserId(), view -> true);
+            return;
+        }
+
+        Set<String> bookmarkIds = Set.copyOf(event.getBookmarkIds());
+        Set<String> affectedTagIds = event.getTagDeltas().keySet();
+        invalidateUser(event.getUserId(), view -> view.containsAnyTag(affectedTagIds) || view.containsAnyBookmark(bookmarkIds));
+    }
+
+    @EventListener
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() == TagChangedEvent.Type.CREATED) {
+            return;
+        }
+        invalidateUser(event.getUserId(), view -> view.containsAnyTag(Set.of(event.getTagId()))
+                || view.showsTag(event.getTagId()));
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.getCategoryId() == null) {
+            invalidateUser(event.getUserId(), view -> true);
+            return;
+        }
+        UserViews user = users.getIfPresent(event.getUserId());
+        if (user != null) {
+            user.generation.incrementAndGet();
+            invalidate(user, event.getUserId(), event.getCategoryId(), view -> true);
+        }
+    }
+
+    private void invalidateUser(String userId, Predicate<View> affected) {
+        UserViews user = users.getIfPresent(userId);
+        if (user == null) {
+            return; // 캐시된 뷰가 없음
+        }
+        user.generation.incrementAndGet();
+        for (String categoryId : user.categoryIds) {
+            invalidate(user, userId, categoryId, affected);
+        }
+    }
+
+    // 만료/크기 제한으로 이미 빠진 키는 목록에서도 정리
+    private void invalidate(UserViews user, String userId, String categoryId, Predicate<View> affected) {
+        views.asMap().compute(new Key(userId, categoryId), (key, view) -> {
+            if (view == null || affected.test(view)) {
+                user.categoryIds.remove(categoryId);
+                return null;
+            }
+            return view;
+        });
+    }
+
+    private record Key(String userId, String categoryId) {
+    }
+
+    private static final class UserViews {
+        private final AtomicLong generation = new AtomicLong();
+        private final Set<String> categoryIds = ConcurrentHashMap.newKeySet();
+    }
+
+    // tagIds: 카테고리의 태그 ID 목록 (북마크 포함 조건)
+    public record View(Set<String> tagIds, List<BookmarkResponseDto> bookmarks, Set<String> bookmarkIds) {
+
+        public static View of(Collection<String> tagIds, List<BookmarkResponseDto> bookmarks) {
+            return new View(
+                    tagIds == null ? Set.of() : Set.copyOf(tagIds),
+                    List.copyOf(bookmarks),
+                    bookmarks.stream().map(BookmarkResponseDto::getId).collect(Collectors.toUnmodifiableSet()));
+        }
+
+        boolean containsAnyTag(Set<String> tagIds) {
+            return tagIds.stream().anyMatch(this.tagIds::contains);
+        }
+
+        boolean containsAnyBookmark(Set<String> bookmarkIds) {
+            return bookmarkIds.stream().anyMatch(this.bookmarkIds::contains);
+        }
+
+        // 북마크 응답의 태그 목록에 해당 태그가 있는지 (카테고리 태그가 아니어도 이름이 노출됨)
+        boolean showsTag(String tagId) {
+            return bookmarks.stream()
+                    .filter(b -> b.getTagNames() != null)
+                    .flatMap(b -> b.getTagNames().stream())
+                    .map(TagResponseDto::getId)
+                    .anyMatch(tagId::equals);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.bookmarkservice.category.service;
+
+import com.bookmarkservice.bookmark.dto.BookmarkResponseDto;
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.repository.BookmarkReactiveRepository;
+import com.bookmarkservice.category.dto.ShareCategoryResponseDto;
+import com.bookmarkservice.category.entity.Category;
+import com.bookmarkservice.category.repository.CategoryReactiveRepository;
+import com.bookmarkservice.common.exception.NotFoundException;
+import com.bookmarkservice.share.entity.ShareToken;
+import com.bookmarkservice.share.repository.ShareTokenReactiveRepository;
+import com.bookmarkservice.share.service.ShareTokenCache;
+import com.bookmarkservice.tag.dto.TagResponseDto;
+import com.bookmarkservice.tag.service.TagService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 공유 링크로 카테고리 조회 (인증 불필요, 리액티브)
+// 직렬화된 응답을 스냅샷 저장소에 두고, 소유자가 관련 데이터를 바꿀 때까지 재사용
+@Service
+@RequiredArgsConstructor
+public class SharedCategoryService {
+
+    private final ShareTokenReactiveRepository shareTokenReactiveRepository;
+    private final ShareTokenCache shareTokenCache;
+    private final CategoryReactiveRepository categoryReactiveRepository;
+    private final BookmarkReactiveRepository bookmarkReactiveRepository;
+    private final TagService tagService;
+    private final SharedCategorySnapshotStore snapshotStore;
+    private final ObjectMapper objectMapper;
+
+    public Mono<SharedCategorySnapshot> getSnapshot(String token) {
+        return Mono.defer(() -> {
+            Optional<SharedCategorySnapshot> cached = snapshotStore.get(token);
+            if (cached.isPresent()) {
+                return Mono.just(cached.get());
+            }
+
+            return load(token);
+        });
+    }
+
+    // 각 조회 직전에 카테고리/사용자 쓰기 세대를 읽어 두고, 그 사이 쓰기가 있었으면 저장소가 결과를 버림
+    private Mono<SharedCategorySnapshot> load(String token) {
+        // 1. 토큰 → 카테고리 조회
+        return shareTokenCache.getCategoryId(token, shareTokenReactiveRepository.findById(token).map(ShareToken::getCategoryId))
+                .switchIfEmpty(Mono.error(new NotFoundException("유효하지 않은 공유 링크입니다.")))
+                .flatMap(categoryId -> {
+                    long categoryGeneration = snapshotStore.categoryGeneration(categoryId);
+                    return categoryReactiveRepository.findById(categoryId)
+                            .switchIfEmpty(Mono.error(new NotFoundException("카테고리를 찾을 수 없습니다.")))
+                            // 2. 해당 태그 포함하는 북마크 조회 (최신순)
+                            .flatMap(category -> {
+                                long userGeneration = snapshotStore.userGeneration(category.getUserId());
+                                return bookmarkReactiveRepository
+                                        .findByUserIdAndTagIdsInOrderByCreatedAtDesc(category.getUserId(), category.getTagIds())
+                                        .collectList()
+                                        .flatMap(bookmarks -> toSnapshot(token, category, bookmarks))
+                                        .doOnNext(snapshot -> snapshotStore.put(snapshot, categoryGeneration, userGeneration));
+                            });
+                });
+    }
+
+    // 태그 사본이 없는 카테고리/북마크의 태그만 한 번에 조회
+    private Mono<SharedCategorySnapshot> toSnapshot(String token, Category category, List<Bookmark> bookmarks) {
+        Set<String> tagIds = new HashSet<>();
+        if (category.getTags() == null && category.getTagIds() != null) {
+            tagIds.addAll(category.getTagIds());
+        }
+        bookmarks.stream()
+                .filter(b -> b.getTags() == null && b.getTagIds() != null)
+                .forEach(b -> tagIds.addAll(b.getTagIds()));
+
+        return tagService.findTagMapByIdsReactive(tagIds).map(tagMap -> {
+            List<TagResponseDto> tags = tagService.tagsOf(category.getTags(), category.getTagIds(), tagMap);
+            List<BookmarkResponseDto> bookmarkDtos = toResponseDtos(bookmarks, tagMap);
+            ShareCategoryResponseDto response = ShareCategoryResponseDto.builder()
+                    .id(category.getId())
+                    .title(category.getTitle())
+                    .tagNames(tags.stream().map(TagResponseDto::getName).toList())
+                    .bookmarks(bookmarkDtos)
+                    .build();
+
+            Set<String> shownTagIds = new HashSet<>();
+            tags.forEach(tag -> shownTagIds.add(tag.getId()));
+            bookmarkDtos.forEach(b -> b.getTagNames().forEach(tag -> shownTagIds.add(tag.getId())));
+
+            return SharedCategorySnapshot.of(token, category.getUserId(), category.getId(),
+                    category.getTagIds() == null ? Set.of() : new HashSet<>(category.getTagIds()),
+                    shownTagIds,
+                    bookmarks.stream().map(Bookmark::getId).collect(Collectors.toSet()),
+                    serialize(response));
+        });
+    }
+
+    private byte[] serialize(ShareCategoryResponseDto response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공유 카테고리 응답 직렬화 실패", e);
+        }
+    }
+
+    private List<BookmarkResponseDto> toResponseDtos(List<Bookmark> bookmarks, Map<String, TagResponseDto> tagMap) {
+        return bookmarks.stream()
+                .map(b -> new BookmarkResponseDto(b, tagService.tagsOf(b.getTags(), b.getTagIds(), tagMap)))
+                .toList();
+    }
+}
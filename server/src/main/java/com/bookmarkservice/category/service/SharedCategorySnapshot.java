@@ -0,0 +1,169 @@
+package com.bookmarkservice.category.service;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+// 공유 카테고리 응답의 직렬화 결과 (JSON 원본 + gzip), 본문은 힙 밖(direct buffer)에 보관
+// 무효화 판단용 메타데이터(소유자, 태그/북마크 ID)만 힙에 둠
+@Getter
+public final class SharedCategorySnapshot {
+
+    private final String token;
+    private final String userId;
+    private final String categoryId;
+    private final Set<String> categoryTagIds; // 북마크 포함 조건
+    private final Set<String> shownTagIds;    // 응답에 이름이 노출되는 태그 전체
+    private final Set<String> bookmarkIds;
+    private final String etag;
+    private final ByteBuffer json;
+    private final ByteBuffer gzip;
+
+    private SharedCategorySnapshot(String token, String userId, String categoryId, Set<String> categoryTagIds,
+                                   Set<String> shownTagIds, Set<String> bookmarkIds, byte[] json) {
+        this.token = token;
+        this.userId = userId;
+        this.categoryId = categoryId;
+        this.categoryTagIds = categoryTagIds;
+        this.shownTagIds = shownTagIds;
+        this.bookmarkIds = bookmarkIds;
+        this.etag = etagOf(json);
+        this.json = toDirect(json);
+        this.gzip = toDirect(gzip(json));
+    }
+
+    public static SharedCategorySnapshot of(String token, String userId, String categoryId, Set<String> categoryTagIds,
+                                            Set<String> shownTagIds, Set<String> bookmarkIds, byte[] json) {
+        return new SharedCategorySnapshot(token, userId, categoryId,
+                Set.copyOf(categoryTagIds), Set.copyOf(shownTagIds), Set.copyOf(bookmarkIds), json);
+    }
+
+    // 힙 밖에 차지하는 바이트 수
+    public long size() {
+        return json.capacity() + gzip.capacity();
+    }
+
+    public String etag(boolean gzipped) {
+        return gzipped ? "\"" + etag + "-gzip\"" : "\"" + etag + "\"";
+    }
+
+    // If-None-Match 헤더 값(여러 개, W/ 접두어 허용) 중 현재 ETag 와 같은 것이 있는지
+    public boolean matches(String ifNoneMatch, boolean gzipped) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String current = etag(gzipped);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.replaceFirst("^W/", "").equals(current));
+    }
+
+    // Accept-Encoding 헤더가 gzip 을 받는지 (q=0 은 거부, gzip 항목이 없으면 * 의 q 값을 따름)
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = qualityOf(params);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    // 잘못된 q 값은 받지 않는 것으로 처리
+    private static double qualityOf(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.length() > 2 && param.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    public long contentLength(boolean gzipped) {
+        return gzipped ? gzip.capacity() : json.capacity();
+    }
+
+    // 요청마다 독립된 위치로 읽도록 duplicate 사용 (본문을 힙으로 통째 복사하지 않음)
+    public InputStream open(boolean gzipped) {
+        return new ByteBufferInputStream((gzipped ? gzip : json).duplicate());
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etagOf(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.bookmarkservice.category.service;
+
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.category.event.CategoryChangedEvent;
+import com.bookmarkservice.share.event.ShareTokenRevokedEvent;
+import com.bookmarkservice.tag.event.TagChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+// 공유 링크 응답 스냅샷 저장소 (토큰 -> 스냅샷, 힙 밖 바이트 합계 상한을 넘으면 덜 쓰인 것부터 제거)
+// 소유자의 카테고리/태그/북마크 쓰기 이벤트로 영향받는 스냅샷만 제거 (사용자별 토큰 목록만 확인)
+// 로드 중에 같은 카테고리/사용자의 쓰기가 있었으면 결과를 저장하지 않음:
+// - 카테고리 세대: 토큰으로 카테고리 ID 를 찾은 직후, 카테고리 조회 전에 읽음
+// - 사용자 세대: 카테고리 조회로 소유자를 안 직후, 북마크/태그 조회 전에 읽음
+@Component
+public class SharedCategorySnapshotStore {
+
+    private static final Duration GENERATION_TTL = Duration.ofHours(1);
+    private static final Duration REVOKED_TTL = Duration.ofMinutes(10); // 진행 중인 로드보다 충분히 길게
+
+    private final long maxBytes;
+    private final Cache<String, SharedCategorySnapshot> snapshots;
+
+    // 사용자별 쓰기 세대와 캐시된 토큰 목록, 카테고리별 쓰기 세대
+    private final Cache<String, UserSnapshots> users = Caffeine.newBuilder()
+            .expireAfterAccess(GENERATION_TTL)
+            .build();
+    private final Cache<String, AtomicLong> categories = Caffeine.newBuilder()
+            .expireAfterAccess(GENERATION_TTL)
+            .build();
+
+    // 토큰 조회 후 해제된 토큰의 로드 결과가 저장되지 않도록 해제된 토큰을 잠시 기억
+    private final Cache<String, Boolean> revokedTokens = Caffeine.newBuilder()
+            .expireAfterWrite(REVOKED_TTL)
+            .build();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public SharedCategorySnapshotStore(@Value("${share.snapshot-cache.max-bytes:67108864}") long maxBytes,
+                                       MeterRegistry meterRegistry) {
+        this.maxBytes = maxBytes;
+        Counter evictions = Counter.builder("share.snapshots.evictions").register(meterRegistry);
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String token, SharedCategorySnapshot snapshot) -> (int) Math.min(snapshot.size(), Integer.MAX_VALUE))
+                .removalListener((String token, SharedCategorySnapshot snapshot, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+        this.hits = Counter.builder("share.snapshots.gets").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("share.snapshots.gets").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("share.snapshots.bytes", this, SharedCategorySnapshotStore::usedBytes).register(meterRegistry);
+    }
+
+    public Optional<SharedCategorySnapshot> get(String token) {
+        SharedCategorySnapshot snapshot = snapshots.getIfPresent(token);
+        (snapshot != null ? hits : misses).increment();
+        return Optional.ofNullable(snapshot);
+    }
+
+    public long categoryGeneration(String categoryId) {
+        return categories.get(categoryId, id -> new AtomicLong()).get();
+    }
+
+    public long userGeneration(String userId) {
+        return users.get(userId, id -> new UserSnapshots()).generation.get();
+    }
+
+    // categoryGeneration, userGeneration: 로드 중 각 단계 직전에 읽은 세대
+    // 토큰은 키 잠금 안에서 사용자 목록에 추가되므로 세대 확인 후 저장된 스냅샷도 무효화 대상에서 빠지지 않음
+    public void put(SharedCategorySnapshot snapshot, long categoryGeneration, long userGeneration) {
+        if (snapshot.size() > maxBytes) {
+            return;
+        }
+        UserSnapshots user = users.get(snapshot.getUserId(), id -> new UserSnapshots());
+        snapshots.asMap().compute(snapshot.getToken(), (token, previous) -> {
+            user.tokens.add(token);
+            if (user.generation.get() != userGeneration
+                    || categoryGeneration(snapshot.getCategoryId()) != categoryGeneration
+                    || revokedTokens.getIfPresent(token) != null) {
+                return previous;
+            }
+            return snapshot;
+        });
+    }
+
+    public long usedBytes() {
+        return snapshots.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        bumpCategory(event.getCategoryId());
+        invalidateUser(event.getUserId(), snapshot -> snapshot.getCategoryId().equals(event.getCategoryId()));
+    }
+
+    @EventListener
+    public void onShareTokenRevoked(ShareTokenRevokedEvent event) {
+        revokedTokens.put(event.getToken(), Boolean.TRUE);
+        bumpCategory(event.getCategoryId());
+        snapshots.invalidate(event.getToken());
+    }
+
+    @EventListener
+    public void onBookmarksChanged(BookmarksChangedEvent event) {
+        if (event.getBookmarkIds() == null || event.getTagDeltas() == null) {
+            invalidateUser(event.getUserId(), snapshot -> true);
+            return;
+        }
+
+        Set<String> affectedTagIds = event.getTagDeltas().keySet();
+        invalidateUser(event.getUserId(), snapshot ->
+                affectedTagIds.stream().anyMatch(snapshot.getCategoryTagIds()::contains)
+                        || event.getBookmarkIds().stream().anyMatch(snapshot.getBookmarkIds()::contains));
+    }
+
+    @EventListener
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() == TagChangedEvent.Type.CREATED) {
+            return;
+        }
+        invalidateUser(event.getUserId(), snapshot -> snapshot.getCategoryTagIds().contains(event.getTagId())
+                || snapshot.getShownTagIds().contains(event.getTagId()));
+    }
+
+    private void bumpCategory(String categoryId) {
+        if (categoryId == null) {
+            return;
+        }
+        AtomicLong generation = categories.getIfPresent(categoryId);
+        if (generation != null) {
+            generation.incrementAndGet();
+        }
+    }
+
+    private void invalidateUser(String userId, Predicate<SharedCategorySnapshot> affected) {
+        UserSnapshots user = users.getIfPresent(userId);
+        if (user == null) {
+            return; // 캐시된 스냅샷도, 진행 중인 로드도 없음
+        }
+        user.generation.incrementAndGet();
+        // 크기 제한으로 이미 빠진 토큰은 목록에서도 정리
+        for (String token : user.tokens) {
+            snapshots.asMap().compute(token, (key, snapshot) -> {
+                if (snapshot == null || affected.test(snapshot)) {
+                    user.tokens.remove(key);
+                    return null;
+                }
+                return snapshot;
+            });
+        }
+    }
+
+    private static final class UserSnapshots {
+        private final AtomicLong generation = new AtomicLong();
+        private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+    }
+}
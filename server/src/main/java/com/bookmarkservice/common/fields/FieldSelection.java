@@ -0,0 +1,80 @@
+package com.bookmarkservice.common.fields;
+
+import com.bookmarkservice.common.exception.BadRequestException;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// fields= 파라미터로 클라이언트가 고른 응답 필드
+// 응답 DTO 는 @JsonFilter(FILTER_ID) 로 직렬화 시 필터링되고, 서비스는 documentFields 로 Mongo projection 을 만듦
+public class FieldSelection {
+
+    public static final String FILTER_ID = "fieldSelection";
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> fields; // null 이면 전체
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    // 쉼표 구분 필드 목록. 비어 있으면 전체, 허용되지 않은 필드가 있으면 400
+    public static FieldSelection parse(String value, Collection<String> allowed) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> fields = Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String field : fields) {
+            if (!allowed.contains(field)) {
+                throw new BadRequestException("지원하지 않는 필드입니다: " + field);
+            }
+        }
+        return fields.isEmpty() ? ALL : new FieldSelection(fields);
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    // 응답 필드 -> 필요한 문서 필드로 변환한 projection 목록. 전체 선택이면 null (projection 없음)
+    public Set<String> documentFields(Map<String, List<String>> documentFieldsByField, String... alwaysIncluded) {
+        if (fields == null) {
+            return null;
+        }
+
+        Set<String> documentFields = new LinkedHashSet<>(Arrays.asList(alwaysIncluded));
+        fields.forEach(field -> documentFields.addAll(documentFieldsByField.getOrDefault(field, List.of())));
+        return documentFields;
+    }
+
+    // 선택한 필드만 직렬화되도록 응답 본문을 감쌈
+    public MappingJacksonValue wrap(Object body) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (fields != null) {
+            value.setFilters(new SimpleFilterProvider()
+                    .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,68 @@
+package com.bookmarkservice.common.mongo;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// 조건에 맞는 문서를 커서로 읽으며 문서마다 만든 갱신을 BATCH_SIZE 단위의 순서 없는 벌크 쓰기로 반영
+// 기동 시 파생 필드 채우기와 태그 사본 복구가 함께 사용
+@Component
+@RequiredArgsConstructor
+public class MongoBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    // fields: 갱신 계산에 필요한 필드만 읽음. update 가 null 이면 해당 문서는 건너뜀. 갱신한 문서 수 반환
+    public <T> long backfill(Class<T> entityClass, Criteria filter, Collection<String> fields, Function<T, Update> update) {
+        return backfillDocuments(entityClass, filter, fields,
+                document -> update.apply(mongoTemplate.getConverter().read(entityClass, document)));
+    }
+
+    // 엔티티로 변환하지 않고 원본 문서로 비교해야 할 때
+    public long backfillDocuments(Class<?> entityClass, Criteria filter, Collection<String> fields,
+                                  Function<Document, Update> update) {
+        Query query = new Query(filter).cursorBatchSize(BATCH_SIZE);
+        fields.forEach(field -> query.fields().include(field));
+
+        long updated = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(entityClass))) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass);
+            int pending = 0;
+
+            Iterator<Document> it = documents.iterator();
+            while (it.hasNext()) {
+                Document document = it.next();
+                Update change = update.apply(document);
+                if (change == null) {
+                    continue;
+                }
+
+                bulk.updateOne(Query.query(Criteria.where("_id").is(document.get("_id"))), change);
+                if (++pending == BATCH_SIZE) {
+                    bulk.execute();
+                    updated += pending;
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass);
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                bulk.execute();
+                updated += pending;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,66 @@
+package com.bookmarkservice.common.pagination;
+
+import com.bookmarkservice.common.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (createdAt, id) 기반 키셋 커서. 클라이언트에는 불투명한 문자열로만 노출
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // (createdAt desc, _id desc) 정렬로 커서 이후 문서를 limit 건 조회하는 쿼리. cursor 가 null 이면 첫 페이지
+    public static Query pageQuery(Criteria filter, KeysetCursor cursor, int limit) {
+        Criteria criteria = filter;
+        if (cursor != null) {
+            // 커서 이후 문서: createdAt < c.createdAt 또는 (createdAt == c.createdAt 이고 _id < c.id)
+            Object id = ObjectId.isValid(cursor.getId()) ? new ObjectId(cursor.getId()) : cursor.getId();
+            Criteria after = new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(cursor.getCreatedAt()),
+                    Criteria.where("createdAt").is(cursor.getCreatedAt()).and("_id").lt(id)
+            );
+            criteria = new Criteria().andOperator(filter, after);
+        }
+
+        return new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(limit);
+    }
+
+    // null/빈 문자열이면 첫 페이지
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx <= 0 || idx == raw.length() - 1) {
+                throw new BadRequestException("유효하지 않은 커서입니다.");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, idx)), raw.substring(idx + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
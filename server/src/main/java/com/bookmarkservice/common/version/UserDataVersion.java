@@ -0,0 +1,18 @@
+package com.bookmarkservice.common.version;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// 사용자 북마크/태그/카테고리 데이터의 단조 증가 버전 (목록 응답 ETag 용)
+@Document(collection = "user_data_versions")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDataVersion {
+    @Id
+    private String userId;
+    private long version;
+}
@@ -0,0 +1,135 @@
+package com.bookmarkservice.common.version;
+
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.category.event.CategoryChangedEvent;
+import com.bookmarkservice.tag.event.TagChangedEvent;
+import com.bookmarkservice.tag.event.TagsCreatedEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자 데이터 버전 관리
+// 북마크/태그/카테고리 쓰기 이벤트마다 $inc 로 올리고, 목록 조회는 버전으로 만든 약한 ETag 로 304 응답
+// 버전 증가에 실패한 사용자는 재시도에 성공할 때까지 304 를 내지 않음 (쓰기 후 이전 목록을 재사용하지 않도록)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDataVersionService {
+
+    private final MongoTemplate mongoTemplate;
+    private final Set<String> pendingBumps = ConcurrentHashMap.newKeySet();
+
+    public long current(String userId) {
+        UserDataVersion version = mongoTemplate.findById(userId, UserDataVersion.class);
+        return version == null ? 0 : version.getVersion();
+    }
+
+    public void bump(String userId) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(userId)),
+                new Update().inc("version", 1), UserDataVersion.class);
+    }
+
+    // If-None-Match 가 현재 버전과 같으면 true (응답 상태는 304 로 설정됨). 아니면 ETag 헤더만 설정
+    // 같은 버전이라도 경로/쿼리(fields, cursor 등)마다 응답이 다르므로 ETag 에 함께 반영
+    // 사용자마다 버전이 같을 수 있으므로 사용자 해시도 포함하고, 공유 캐시에 저장되지 않도록 private 응답으로 표시
+    public boolean checkNotModified(String userId, WebRequest request) {
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+            }
+        }
+        if (pendingBumps.contains(userId)) {
+            return false;
+        }
+
+        String etag = "W/\"" + userTag(userId) + "-" + current(userId) + "-"
+                + Integer.toHexString(representationHash(request)) + "\"";
+        return request.checkNotModified(etag);
+    }
+
+    @EventListener
+    public void onBookmarksChanged(BookmarksChangedEvent event) {
+        bumpSafely(event.getUserId());
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        bumpSafely(event.getUserId());
+    }
+
+    @EventListener
+    public void onTagChanged(TagChangedEvent event) {
+        bumpSafely(event.getUserId());
+    }
+
+    @EventListener
+    public void onTagsCreated(TagsCreatedEvent event) {
+        bumpSafely(event.getUserId());
+    }
+
+    // 버전 증가에 실패한 사용자를 다시 증가 (성공하면 이전 ETag 가 모두 무효가 되므로 304 재개)
+    @Scheduled(fixedDelayString = "${user-data-version.retry-ms:5000}")
+    public void retryPendingBumps() {
+        for (String userId : List.copyOf(pendingBumps)) {
+            try {
+                bump(userId);
+                pendingBumps.remove(userId);
+            } catch (Exception e) {
+                log.warn("사용자 데이터 버전 재시도 실패: userId={}, 오류={}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private void bumpSafely(String userId) {
+        try {
+            bump(userId);
+            pendingBumps.remove(userId);
+        } catch (Exception e) {
+            // 버전 갱신 실패가 원본 쓰기 요청을 실패시키지 않도록 하되, 재시도 전까지 해당 사용자는 304 중단
+            pendingBumps.add(userId);
+            log.error("사용자 데이터 버전 갱신 실패: userId={}, 오류={}", userId, e.getMessage(), e);
+        }
+    }
+
+    // 사용자 ID 를 그대로 노출하지 않도록 해시 앞부분만 사용
+    private static String userTag(String userId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(userId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int representationHash(WebRequest request) {
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletRequest servletRequest = nativeRequest.getNativeRequest(HttpServletRequest.class);
+            if (servletRequest != null) {
+                String query = servletRequest.getQueryString();
+                return (servletRequest.getRequestURI() + (query == null ? "" : "?" + query)).hashCode();
+            }
+        }
+        return request.getDescription(false).hashCode();
+    }
+}
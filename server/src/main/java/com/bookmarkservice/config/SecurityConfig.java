@@ -32,11 +32,14 @@ public class SecurityConfig {
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint))
                 .authorizeHttpRequests(auth -> auth
+                        // 내 정보 변경과 회원 탈퇴(DELETE /users/me)는 /users/** 허용보다 먼저 인증을 요구 (미인증 시 401)
+                        .requestMatchers("/users/me/**").authenticated()
                         .requestMatchers(
                                 "/users/**",
                                 "/email/**",
                                 "/auth/**",
                                 "/api/categories/share/**",
+                                "/api/public/**",
                                 "/login",
                                 "/api/bookmarks/**",
                                 "/api/categories/**",
@@ -0,0 +1,12 @@
+package com.bookmarkservice.share.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 공유 링크 해제 또는 카테고리 삭제로 공유 토큰이 지워진 후 발행
+@Getter
+@AllArgsConstructor
+public class ShareTokenRevokedEvent {
+    private final String categoryId;
+    private final String token;
+}
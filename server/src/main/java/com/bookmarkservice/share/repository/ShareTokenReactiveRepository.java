@@ -0,0 +1,8 @@
+package com.bookmarkservice.share.repository;
+
+import com.bookmarkservice.share.entity.ShareToken;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+// 공유 링크 조회용 (토큰이 문서 ID)
+public interface ShareTokenReactiveRepository extends ReactiveMongoRepository<ShareToken, String> {
+}
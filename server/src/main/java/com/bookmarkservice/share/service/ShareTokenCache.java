@@ -0,0 +1,87 @@
+package com.bookmarkservice.share.service;
+
+import com.bookmarkservice.share.event.ShareTokenRevokedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 공유 토큰 -> 카테고리 ID 캐시
+// 없는 토큰도 짧게 캐시해 임의 토큰 대입 요청이 DB 까지 가지 않도록 함
+// 토큰 해제/카테고리 삭제(ShareTokenRevokedEvent) 시 즉시 제거
+@Component
+public class ShareTokenCache {
+
+    private static final Duration FOUND_TTL = Duration.ofMinutes(10);
+    private static final Duration NOT_FOUND_TTL = Duration.ofSeconds(30);
+
+    private final Cache<String, Optional<String>> categoryIds = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfter(new Expiry<String, Optional<String>>() {
+                @Override
+                public long expireAfterCreate(String token, Optional<String> categoryId, long currentTime) {
+                    return (categoryId.isPresent() ? FOUND_TTL : NOT_FOUND_TTL).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String token, Optional<String> categoryId, long currentTime, long currentDuration) {
+                    return expireAfterCreate(token, categoryId, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String token, Optional<String> categoryId, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+
+    // 해제 이벤트 순번: 리액티브 조회 중에 해제가 있었으면 결과를 캐시에 남기지 않음
+    private final AtomicLong revokeSequence = new AtomicLong();
+
+    public ShareTokenCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, categoryIds, "shareTokens");
+    }
+
+    public Optional<String> getCategoryId(String token, Supplier<Optional<String>> loader) {
+        return categoryIds.get(token, t -> loader.get());
+    }
+
+    // loader 가 비어 있으면 없는 토큰
+    public Mono<String> getCategoryId(String token, Mono<String> loader) {
+        Optional<String> cached = categoryIds.getIfPresent(token);
+        if (cached != null) {
+            return Mono.justOrEmpty(cached);
+        }
+
+        long sequence = revokeSequence.get();
+        return loader.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(categoryId -> {
+                    if (revokeSequence.get() == sequence) {
+                        categoryIds.put(token, categoryId);
+                    }
+                })
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    // 새로 발급한 토큰 (이전에 없는 토큰으로 캐시됐을 수 있으므로 덮어씀)
+    public void put(String token, String categoryId) {
+        categoryIds.put(token, Optional.of(categoryId));
+    }
+
+    @EventListener
+    public void onShareTokenRevoked(ShareTokenRevokedEvent event) {
+        revokeSequence.incrementAndGet();
+        categoryIds.invalidate(event.getToken());
+    }
+}
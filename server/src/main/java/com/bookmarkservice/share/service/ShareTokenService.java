@@ -4,11 +4,18 @@ import com.bookmarkservice.category.entity.Category;
 import com.bookmarkservice.category.repository.CategoryRepository;
 import com.bookmarkservice.common.exception.NotFoundException;
 import com.bookmarkservice.share.entity.ShareToken;
+import com.bookmarkservice.share.event.ShareTokenRevokedEvent;
 import com.bookmarkservice.share.repository.ShareTokenRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,6 +25,9 @@ public class ShareTokenService {
 
     private final ShareTokenRepository shareTokenRepository;
     private final CategoryRepository categoryRepository;
+    private final ShareTokenCache shareTokenCache;
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public String generateToken(String categoryId, String userId) {
         Category category = categoryRepository.findById(categoryId)
@@ -37,12 +47,12 @@ public class ShareTokenService {
                 .build();
 
         shareTokenRepository.save(shareToken);
+        shareTokenCache.put(token, categoryId);
         return token;
     }
 
     public String getCategoryIdByToken(String token) {
-        return shareTokenRepository.findByToken(token)
-                .map(ShareToken::getCategoryId)
+        return shareTokenCache.getCategoryId(token, () -> shareTokenRepository.findById(token).map(ShareToken::getCategoryId))
                 .orElseThrow(() -> new NotFoundException("유효하지 않은 공유 링크입니다."));
     }
 
@@ -51,7 +61,17 @@ public class ShareTokenService {
                 .filter(c -> c.getUserId().equals(userId))
                 .orElseThrow(() -> new NotFoundException("카테고리를 찾을 수 없습니다."));
 
-        shareTokenRepository.findByCategoryId(categoryId)
-                .ifPresent(shareTokenRepository::delete);
+        revokeTokensByCategoryIds(List.of(categoryId));
+    }
+
+    // 카테고리들의 공유 토큰을 한 번의 삭제로 제거 (삭제된 토큰은 캐시 무효화를 위해 이벤트로 알림)
+    public void revokeTokensByCategoryIds(Collection<String> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return;
+        }
+
+        mongoTemplate.findAllAndRemove(new Query(Criteria.where("categoryId").in(categoryIds)), ShareToken.class)
+                .forEach(shareToken -> eventPublisher.publishEvent(
+                        new ShareTokenRevokedEvent(shareToken.getCategoryId(), shareToken.getToken())));
     }
 }
@@ -1,13 +1,18 @@
 package com.bookmarkservice.tag.controller;
 
+import com.bookmarkservice.common.version.UserDataVersionService;
+import com.bookmarkservice.tag.dto.TagFacetDto;
 import com.bookmarkservice.tag.dto.TagRequestDto;
 import com.bookmarkservice.tag.dto.TagResponseDto;
 import com.bookmarkservice.tag.dto.TagUpdateRequestDto;
+import com.bookmarkservice.tag.service.TagAutocompleteService;
+import com.bookmarkservice.tag.service.TagFacetService;
 import com.bookmarkservice.tag.service.TagService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,6 +21,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TagController {
     private final TagService tagService;
+    private final TagFacetService tagFacetService;
+    private final TagAutocompleteService tagAutocompleteService;
+    private final UserDataVersionService userDataVersionService;
 
     // 사용자 태그 등록
     @PostMapping
@@ -26,13 +34,37 @@ public class TagController {
         return ResponseEntity.ok(tagService.createTag(userId, dto));
     }
 
-    // 사용자 태그 전체 조회 (최신순)
+    // 사용자 태그 전체 조회 (최신순, 변경이 없으면 304)
     @GetMapping
     public ResponseEntity<List<TagResponseDto>> getTags(
-            @AuthenticationPrincipal String userId) {
+            @AuthenticationPrincipal String userId,
+            WebRequest request) {
+        if (userDataVersionService.checkNotModified(userId, request)) {
+            return null; // 304
+        }
         return ResponseEntity.ok(tagService.getTagsByUser(userId));
     }
 
+    // 태그별 북마크 수 (많이 쓰인 순, 변경이 없으면 304)
+    @GetMapping("/facets")
+    public ResponseEntity<List<TagFacetDto>> getTagFacets(
+            @AuthenticationPrincipal String userId,
+            WebRequest request) {
+        if (userDataVersionService.checkNotModified(userId, request)) {
+            return null; // 304
+        }
+        return ResponseEntity.ok(tagFacetService.getTagFacets(userId));
+    }
+
+    // 태그 이름 자동완성 (접두어, 한글 초성/자모 단위 입력 포함, 많이 쓰인 순)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<TagFacetDto>> autocomplete(
+            @AuthenticationPrincipal String userId,
+            @RequestParam("q") String prefix,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(tagAutocompleteService.autocomplete(userId, prefix, limit));
+    }
+
     // 사용자 태그 이름 수정
     @PutMapping("/{tagId}")
     public ResponseEntity<TagResponseDto> updateTag(
@@ -0,0 +1,12 @@
+package com.bookmarkservice.tag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TagFacetDto {
+    private String id;
+    private String name;
+    private long count; // 이 태그가 붙은 북마크 수
+}
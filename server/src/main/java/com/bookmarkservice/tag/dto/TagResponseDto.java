@@ -1,6 +1,7 @@
 package com.bookmarkservice.tag.dto;
 
 import com.bookmarkservice.tag.entity.Tag;
+import com.bookmarkservice.tag.entity.TagSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,4 +20,9 @@ public class TagResponseDto {
         this.name = tag.getName();
     }
 
+    public TagResponseDto(TagSnapshot snapshot) {
+        this.id = snapshot.getTagId();
+        this.name = snapshot.getName();
+    }
+
 }
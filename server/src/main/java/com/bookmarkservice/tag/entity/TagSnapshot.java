@@ -0,0 +1,21 @@
+package com.bookmarkservice.tag.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 북마크/카테고리 문서에 함께 저장하는 태그 사본 (읽을 때 tags 컬렉션 조인 없이 이름 표시)
+// 원본은 tags 컬렉션이며, 이름 변경은 TagService 에서 전파하고 어긋난 사본은 TagSnapshotRepairJob 이 복구
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagSnapshot {
+    private String tagId;
+    private String name;
+
+    public static TagSnapshot of(Tag tag) {
+        return new TagSnapshot(tag.getId(), tag.getName());
+    }
+}
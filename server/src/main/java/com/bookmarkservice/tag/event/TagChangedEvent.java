@@ -0,0 +1,18 @@
+package com.bookmarkservice.tag.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 태그 생성/이름 변경/삭제 후 발행
+@Getter
+@AllArgsConstructor
+public class TagChangedEvent {
+    public enum Type {
+        CREATED, RENAMED, DELETED
+    }
+
+    private final String userId;
+    private final String tagId;
+    private final String name; // 생성/이름 변경 후 이름 (삭제는 null)
+    private final Type type;
+}
@@ -0,0 +1,14 @@
+package com.bookmarkservice.tag.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// 가져오기 등에서 태그를 한 번에 여러 개 만든 후 태그마다가 아니라 한 번만 발행
+@Getter
+@AllArgsConstructor
+public class TagsCreatedEvent {
+    private final String userId;
+    private final Map<String, String> namesById; // 태그 ID -> 이름
+}
@@ -0,0 +1,7 @@
+package com.bookmarkservice.tag.repository;
+
+import com.bookmarkservice.tag.entity.Tag;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface TagReactiveRepository extends ReactiveMongoRepository<Tag, String> {
+}
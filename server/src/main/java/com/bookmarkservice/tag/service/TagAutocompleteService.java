@@ -0,0 +1,89 @@
+package com.bookmarkservice.tag.service;
+
+import com.bookmarkservice.common.exception.BadRequestException;
+import com.bookmarkservice.tag.dto.TagFacetDto;
+import com.bookmarkservice.tag.entity.Tag;
+import com.bookmarkservice.tag.event.TagChangedEvent;
+import com.bookmarkservice.tag.event.TagsCreatedEvent;
+import com.bookmarkservice.tag.repository.TagRepository;
+import com.bookmarkservice.user.event.UserDeletedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 태그 이름 자동완성
+// 사용자별 접두어 색인을 처음 요청할 때 만들고, 메모리가 부족하면 GC 가 회수하도록 soft 참조로 캐시
+// 결과는 태그 사용 횟수(북마크 수)가 많은 순
+@Service
+@RequiredArgsConstructor
+public class TagAutocompleteService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_PREFIX_LENGTH = 100;
+
+    private final TagRepository tagRepository;
+    private final TagFacetService tagFacetService;
+
+    // 사용자 ID -> 태그 이름 접두어 색인
+    private final Cache<String, TagPrefixIndex> indexes = Caffeine.newBuilder()
+            .softValues()
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public List<TagFacetDto> autocomplete(String userId, String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        if (prefix.length() > MAX_PREFIX_LENGTH) {
+            throw new BadRequestException("검색어는 " + MAX_PREFIX_LENGTH + "자 이하여야 합니다.");
+        }
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new BadRequestException("limit 은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+
+        TagPrefixIndex index = indexes.get(userId, this::load);
+        // 입력마다 전체 집계를 기다리지 않도록 캐시된 사용 횟수만 사용 (없으면 백그라운드 집계 후 다음 입력부터 반영)
+        Map<String, Long> tagCounts = tagFacetService.getTagCountsIfCached(userId);
+
+        return index.search(prefix).stream()
+                .map(tagId -> new TagFacetDto(tagId, index.nameOf(tagId), tagCounts.getOrDefault(tagId, 0L)))
+                .sorted(Comparator.comparingLong(TagFacetDto::getCount).reversed()
+                        .thenComparing(TagFacetDto::getName))
+                .limit(size)
+                .toList();
+    }
+
+    // 색인이 캐시에 있을 때만 이벤트의 이름으로 증분 갱신 (없으면 다음 요청 때 새로 로드)
+    @EventListener
+    public void onTagChanged(TagChangedEvent event) {
+        indexes.asMap().computeIfPresent(event.getUserId(), (userId, index) ->
+                event.getType() == TagChangedEvent.Type.DELETED
+                        ? index.without(event.getTagId())
+                        : index.with(event.getTagId(), event.getName()));
+    }
+
+    @EventListener
+    public void onTagsCreated(TagsCreatedEvent event) {
+        indexes.asMap().computeIfPresent(event.getUserId(), (userId, index) -> index.with(event.getNamesById()));
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        indexes.invalidate(event.getUserId());
+    }
+
+    private TagPrefixIndex load(String userId) {
+        return TagPrefixIndex.of(tagRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .collect(Collectors.toMap(Tag::getId, Tag::getName)));
+    }
+}
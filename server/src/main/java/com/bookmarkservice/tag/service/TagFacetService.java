@@ -0,0 +1,197 @@
+package com.bookmarkservice.tag.service;
+
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.bookmark.repository.BookmarkRepository;
+import com.bookmarkservice.tag.dto.TagFacetDto;
+import com.bookmarkservice.tag.event.TagChangedEvent;
+import com.bookmarkservice.tag.repository.TagRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+// 태그별 북마크 수 (태그 사이드바)
+// 사용자별 집계 결과를 캐시하고, 북마크 변경의 태그별 변화량(tagDeltas)을 캐시된 집계에 바로 반영
+// 변화량을 알 수 없는 변경(가져오기 등)만 캐시 제거
+// 집계가 쓰기와 겹치면 그 쓰기가 포함됐는지 알 수 없으므로 사용자별 세대 번호로 확인해 저장하지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagFacetService {
+
+    private final BookmarkRepository bookmarkRepository;
+    private final TagRepository tagRepository;
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(30);
+    // 집계 시작 직후 도착한 변경은 이미 집계에 포함됐을 수 있으므로 변화량을 더하지 않고 제거
+    // (북마크 쓰기와 변경 이벤트 발행 사이 간격보다 충분히 길게)
+    private static final long SETTLE_NANOS = Duration.ofSeconds(5).toNanos();
+
+    // 사용자 ID -> (태그 ID -> 북마크 수)
+    // 변화량을 반영해도 만료 시각은 집계 시점 기준 (놓친 변경이 있어도 MAX_AGE 안에 다시 집계)
+    private final Cache<String, TagCounts> counts = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfter(new Expiry<String, TagCounts>() {
+                @Override
+                public long expireAfterCreate(String userId, TagCounts entry, long currentTime) {
+                    return Math.max(0, MAX_AGE.toNanos() - (currentTime - entry.loadedAt()));
+                }
+
+                @Override
+                public long expireAfterUpdate(String userId, TagCounts entry, long currentTime, long currentDuration) {
+                    return expireAfterCreate(userId, entry, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String userId, TagCounts entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    // 자동완성에서 요청한 백그라운드 집계 (같은 사용자는 동시에 하나만)
+    private final Set<String> warmingUp = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor warmUpExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1_000), runnable -> {
+                Thread thread = new Thread(runnable, "tag-facet-warmup");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    // 사용자 ID -> 쓰기 세대 번호 (집계 한 번보다 충분히 오래 유지)
+    private final Cache<String, AtomicLong> generations = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    // 사용자 태그 전체와 북마크 수 (많이 쓰인 순, 같으면 최신 태그 순)
+    public List<TagFacetDto> getTagFacets(String userId) {
+        Map<String, Long> tagCounts = getTagCounts(userId);
+
+        return tagRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(tag -> new TagFacetDto(tag.getId(), tag.getName(), tagCounts.getOrDefault(tag.getId(), 0L)))
+                .sorted(Comparator.comparingLong(TagFacetDto::getCount).reversed())
+                .toList();
+    }
+
+    // 태그 ID -> 북마크 수 (북마크가 없는 태그는 포함되지 않음)
+    public Map<String, Long> getTagCounts(String userId) {
+        TagCounts cached = counts.getIfPresent(userId);
+        if (cached != null) {
+            return cached.counts();
+        }
+
+        AtomicLong generation = generationOf(userId);
+        long startedAt = generation.get();
+        long loadedAt = System.nanoTime();
+        Map<String, Long> loaded = Map.copyOf(bookmarkRepository.countByTag(userId));
+
+        // 쓰기 쪽은 세대를 올린 뒤 같은 키를 갱신/무효화하므로, 같은 키의 compute 안에서 확인하면 오래된 집계가 남지 않음
+        counts.asMap().compute(userId, (id, current) ->
+                generation.get() == startedAt ? new TagCounts(loaded, loadedAt) : current);
+        return loaded;
+    }
+
+    // 캐시에 있는 집계만 즉시 반환. 없으면 빈 맵을 돌려주고 백그라운드에서 한 번만 집계
+    public Map<String, Long> getTagCountsIfCached(String userId) {
+        TagCounts cached = counts.getIfPresent(userId);
+        if (cached != null) {
+            return cached.counts();
+        }
+
+        if (warmingUp.add(userId)) {
+            try {
+                warmUpExecutor.execute(() -> {
+                    try {
+                        getTagCounts(userId);
+                    } catch (Exception e) {
+                        log.warn("태그 사용 횟수 집계 실패: userId={}, 오류={}", userId, e.getMessage());
+                    } finally {
+                        warmingUp.remove(userId);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                warmingUp.remove(userId); // 대기열이 가득 차면 다음 요청에서 다시 시도
+            }
+        }
+        return Map.of();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        warmUpExecutor.shutdownNow();
+    }
+
+    @EventListener
+    public void onBookmarksChanged(BookmarksChangedEvent event) {
+        Map<String, Integer> deltas = event.getTagDeltas();
+        if (deltas == null) {
+            invalidate(event.getUserId());
+            return;
+        }
+        if (deltas.isEmpty()) {
+            return; // 태그별 수가 바뀌지 않는 변경 (즐겨찾기 등)
+        }
+        update(event.getUserId(), entry -> entry.plus(deltas));
+    }
+
+    // 태그 삭제는 해당 태그의 수만 제거
+    @EventListener
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() == TagChangedEvent.Type.DELETED) {
+            update(event.getUserId(), entry -> entry.without(event.getTagId()));
+        }
+    }
+
+    private void invalidate(String userId) {
+        generationOf(userId).incrementAndGet();
+        counts.invalidate(userId);
+    }
+
+    // 진행 중인 집계는 이 변경의 포함 여부를 알 수 없으므로 세대를 올려 저장하지 않게 하고, 캐시된 집계만 갱신
+    private void update(String userId, UnaryOperator<TagCounts> change) {
+        generationOf(userId).incrementAndGet();
+        counts.asMap().computeIfPresent(userId, (id, current) ->
+                System.nanoTime() - current.loadedAt() < SETTLE_NANOS ? null : change.apply(current));
+    }
+
+    private AtomicLong generationOf(String userId) {
+        return generations.get(userId, id -> new AtomicLong());
+    }
+
+    // loadedAt: 집계를 시작한 System.nanoTime()
+    private record TagCounts(Map<String, Long> counts, long loadedAt) {
+
+        // 북마크가 없어진 태그는 빼서 집계 결과와 같은 모양 유지
+        TagCounts plus(Map<String, Integer> deltas) {
+            Map<String, Long> updated = new HashMap<>(counts);
+            deltas.forEach((tagId, delta) -> updated.merge(tagId, (long) delta, Long::sum));
+            updated.values().removeIf(count -> count <= 0);
+            return new TagCounts(Map.copyOf(updated), loadedAt);
+        }
+
+        TagCounts without(String tagId) {
+            Map<String, Long> updated = new HashMap<>(counts);
+            updated.remove(tagId);
+            return new TagCounts(Map.copyOf(updated), loadedAt);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.bookmarkservice.tag.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 사용자 태그 이름의 접두어 색인 (불변, 정렬된 키 배열 + 이진 탐색)
+// 태그마다 자모 분해 키와 초성 키를 이름 전체 및 각 단어 시작 위치부터 등록
+final class TagPrefixIndex {
+
+    private static final Comparator<String[]> BY_KEY = Comparator.comparing(entry -> entry[0]);
+
+    private final Map<String, String> namesById;
+    private final String[] keys;     // 정렬된 검색 키
+    private final String[] keyTagIds; // keys[i] 의 태그 ID
+
+    private TagPrefixIndex(Map<String, String> namesById, String[] keys, String[] keyTagIds) {
+        this.namesById = namesById;
+        this.keys = keys;
+        this.keyTagIds = keyTagIds;
+    }
+
+    static TagPrefixIndex of(Map<String, String> namesById) {
+        return new TagPrefixIndex(Map.of(), new String[0], new String[0]).with(namesById);
+    }
+
+    TagPrefixIndex with(String tagId, String name) {
+        return with(Map.of(tagId, name));
+    }
+
+    // 태그 추가/이름 변경 반영한 새 색인
+    // 바뀐 태그의 기존 키를 걸러내며 새 키만 정렬해 병합 (전체 재정렬 없이 O(n + k log k))
+    TagPrefixIndex with(Map<String, String> changed) {
+        if (changed.isEmpty()) {
+            return this;
+        }
+
+        Map<String, String> names = new HashMap<>(namesById);
+        names.putAll(changed);
+
+        List<String[]> added = new ArrayList<>();
+        changed.forEach((tagId, name) -> keysOf(name).forEach(key -> added.add(new String[]{key, tagId})));
+        added.sort(BY_KEY);
+
+        return merge(names, changed.keySet(), added);
+    }
+
+    TagPrefixIndex without(String tagId) {
+        if (!namesById.containsKey(tagId)) {
+            return this;
+        }
+
+        Map<String, String> names = new HashMap<>(namesById);
+        names.remove(tagId);
+        return merge(names, Set.of(tagId), List.of());
+    }
+
+    String nameOf(String tagId) {
+        return namesById.get(tagId);
+    }
+
+    // 접두어가 일치하는 태그 ID (중복 제거)
+    Set<String> search(String prefix) {
+        Set<String> tagIds = new LinkedHashSet<>();
+        String key = HangulJamo.decompose(prefix);
+        if (key.isEmpty()) {
+            return tagIds;
+        }
+
+        int from = Arrays.binarySearch(keys, key);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        for (int i = from; i < keys.length && keys[i].startsWith(key); i++) {
+            tagIds.add(keyTagIds[i]);
+        }
+        return tagIds;
+    }
+
+    // 기존 키 중 replacedTagIds 의 키는 빼고, 정렬된 added 와 병합
+    private TagPrefixIndex merge(Map<String, String> names, Set<String> replacedTagIds, List<String[]> added) {
+        String[] mergedKeys = new String[keys.length + added.size()];
+        String[] mergedTagIds = new String[mergedKeys.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < keys.length || j < added.size()) {
+            if (i < keys.length && replacedTagIds.contains(keyTagIds[i])) {
+                i++;
+            } else if (j == added.size() || (i < keys.length && keys[i].compareTo(added.get(j)[0]) <= 0)) {
+                mergedKeys[n] = keys[i];
+                mergedTagIds[n++] = keyTagIds[i++];
+            } else {
+                mergedKeys[n] = added.get(j)[0];
+                mergedTagIds[n++] = added.get(j++)[1];
+            }
+        }
+        return new TagPrefixIndex(names, Arrays.copyOf(mergedKeys, n), Arrays.copyOf(mergedTagIds, n));
+    }
+
+    // 자모 분해 키와 초성 키 (이름 전체 및 각 단어 시작 위치부터)
+    private static Set<String> keysOf(String name) {
+        Set<String> tagKeys = new LinkedHashSet<>();
+        for (String suffix : wordSuffixes(name)) {
+            tagKeys.add(HangulJamo.decompose(suffix));
+            String choseong = HangulJamo.choseong(suffix);
+            if (choseong != null) {
+                tagKeys.add(choseong);
+            }
+        }
+        return tagKeys;
+    }
+
+    // 이름 전체와 공백/구분자 뒤 각 단어부터의 부분 문자열
+    private static List<String> wordSuffixes(String name) {
+        List<String> suffixes = new ArrayList<>();
+        suffixes.add(name);
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isLetterOrDigit(name.charAt(i - 1)) && Character.isLetterOrDigit(name.charAt(i))) {
+                suffixes.add(name.substring(i));
+            }
+        }
+        return suffixes;
+    }
+}
@@ -1,9 +1,7 @@
 package com.bookmarkservice.tag.service;
 
 import com.bookmarkservice.bookmark.entity.Bookmark;
-import com.bookmarkservice.bookmark.repository.BookmarkRepository;
 import com.bookmarkservice.category.entity.Category;
-import com.bookmarkservice.category.repository.CategoryRepository;
 import com.bookmarkservice.common.exception.ConflictException;
 import com.bookmarkservice.common.exception.DuplicateTagException;
 import com.bookmarkservice.common.exception.NotFoundException;
@@ -12,12 +10,30 @@ import com.bookmarkservice.tag.dto.TagRequestDto;
 import com.bookmarkservice.tag.dto.TagResponseDto;
 import com.bookmarkservice.tag.dto.TagUpdateRequestDto;
 import com.bookmarkservice.tag.entity.Tag;
+import com.bookmarkservice.tag.entity.TagSnapshot;
+import com.bookmarkservice.tag.event.TagChangedEvent;
+import com.bookmarkservice.tag.event.TagsCreatedEvent;
+import com.bookmarkservice.tag.repository.TagReactiveRepository;
 import com.bookmarkservice.tag.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -27,8 +43,9 @@ import java.util.stream.Stream;
 public class TagService {
 
     private final TagRepository tagRepository;
-    private final BookmarkRepository bookmarkRepository;
-    private final CategoryRepository categoryRepository;
+    private final TagReactiveRepository tagReactiveRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TagResponseDto createTag(String userId, TagRequestDto dto) {
         tagRepository.findByUserIdAndName(userId, dto.getName()).ifPresent(tag -> {
@@ -41,6 +58,8 @@ public class TagService {
                 .createdAt(LocalDateTime.now())
                 .build());
 
+        eventPublisher.publishEvent(new TagChangedEvent(userId, saved.getId(), saved.getName(), TagChangedEvent.Type.CREATED));
+
         return TagResponseDto.builder()
                 .id(saved.getId())
                 .name(saved.getName())
@@ -66,10 +85,23 @@ public class TagService {
 
         tag.setName(dto.getName());
         tagRepository.save(tag);
+        propagateRename(userId, tagId, dto.getName());
+        eventPublisher.publishEvent(new TagChangedEvent(userId, tagId, dto.getName(), TagChangedEvent.Type.RENAMED));
 
         return new TagResponseDto(tag);
     }
 
+    // 태그 사본을 가진 북마크/카테고리의 이름을 배열 필터로 한 번에 갱신
+    private void propagateRename(String userId, String tagId, String name) {
+        Query query = new Query(Criteria.where("userId").is(userId).and("tags.tagId").is(tagId));
+        Update update = new Update()
+                .set("tags.$[t].name", name)
+                .filterArray(Criteria.where("t.tagId").is(tagId));
+
+        mongoTemplate.updateMulti(query, update, Bookmark.class);
+        mongoTemplate.updateMulti(query, update, Category.class);
+    }
+
     public void deleteTag(String userId, String tagId) {
         Tag tag = tagRepository.findById(tagId)
                 .filter(t -> t.getUserId().equals(userId))
@@ -78,19 +110,16 @@ public class TagService {
         // 태그 삭제
         tagRepository.delete(tag);
 
-        // 연결된 북마크에서 제거
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserIdAndTagIdsContaining(userId, tagId);
-        for (Bookmark b : bookmarks) {
-            b.getTagIds().remove(tagId);
-        }
-        bookmarkRepository.saveAll(bookmarks);
+        // 연결된 북마크/카테고리에서 태그 ID 와 태그 사본을 문서를 읽지 않고 $pull 로 한 번에 제거
+        Query query = new Query(Criteria.where("userId").is(userId).and("tagIds").is(tagId));
+        Update update = new Update()
+                .pull("tagIds", tagId)
+                .pull("tags", new Document("tagId", tagId));
 
-        // 연결된 카테고리에서 제거
-        List<Category> categories = categoryRepository.findByUserIdAndTagIdsContaining(userId, tagId);
-        for (Category c : categories) {
-            c.getTagIds().remove(tagId);
-        }
-        categoryRepository.saveAll(categories);
+        mongoTemplate.updateMulti(query, update, Bookmark.class);
+        mongoTemplate.updateMulti(query, update, Category.class);
+
+        eventPublisher.publishEvent(new TagChangedEvent(userId, tagId, null, TagChangedEvent.Type.DELETED));
     }
 
 
@@ -100,6 +129,96 @@ public class TagService {
                 .collect(Collectors.toList());
     }
 
+    // 결과 집합 전체의 태그 ID를 한 번의 $in 조회로 로드 (tagId -> 태그)
+    public Map<String, TagResponseDto> findTagMapByIds(Collection<String> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return tagRepository.findAllById(tagIds).stream()
+                .collect(Collectors.toMap(Tag::getId, TagResponseDto::new));
+    }
+
+    // 공개 조회(리액티브) 경로용 findTagMapByIds
+    public Mono<Map<String, TagResponseDto>> findTagMapByIdsReactive(Collection<String> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return tagReactiveRepository.findAllById(tagIds)
+                .collectMap(Tag::getId, TagResponseDto::new);
+    }
+
+    // 문서에 저장된 태그 사본이 있으면 그대로 사용, 없으면(사본 저장 이전 문서) 미리 로드한 태그 맵에서 구성
+    public List<TagResponseDto> tagsOf(List<TagSnapshot> snapshots, List<String> tagIds, Map<String, TagResponseDto> tagMap) {
+        if (snapshots != null) {
+            return snapshots.stream().map(TagResponseDto::new).toList();
+        }
+        return mapTags(tagIds, tagMap);
+    }
+
+    // 응답용 태그 목록을 문서에 함께 저장할 사본으로 변환
+    public List<TagSnapshot> toSnapshots(List<TagResponseDto> tags) {
+        return tags.stream().map(t -> new TagSnapshot(t.getId(), t.getName())).toList();
+    }
+
+    // 미리 로드한 태그 맵에서 문서의 태그 목록 구성 (삭제된 태그는 제외)
+    public List<TagResponseDto> mapTags(List<String> tagIds, Map<String, TagResponseDto> tagMap) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return List.of();
+        }
+
+        return tagIds.stream()
+                .map(tagMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 이름(대소문자 무시)으로 사용자 태그 ID 조회
+    public Optional<String> findTagIdByName(String userId, String tagName) {
+        return tagRepository.findByUserIdAndNameInIgnoreCase(userId, List.of(tagName)).stream()
+                .map(Tag::getId)
+                .findFirst();
+    }
+
+    // 대량 가져오기 사전의 키: 이름 조회(findByUserIdAndNameInIgnoreCase)처럼 대소문자를 구분하지 않음
+    public static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    // 사용자 태그 전체를 nameKey(이름) -> 태그 사본 사전으로 로드 (대량 가져오기용)
+    public Map<String, TagSnapshot> findTagsByName(String userId) {
+        return tagRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .collect(Collectors.toMap(tag -> nameKey(tag.getName()), TagSnapshot::of,
+                        (first, second) -> first, HashMap::new));
+    }
+
+    // 사전에 없는 태그만 한 번의 insert 로 생성하고 사전에 추가
+    // 대소문자만 다른 이름은 같은 태그로 보고 처음 나온 표기로 한 번만 생성
+    public void createMissingTags(String userId, Collection<String> tagNames, Map<String, TagSnapshot> tagsByName) {
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (String name : tagNames) {
+            String key = nameKey(name);
+            if (!tagsByName.containsKey(key)) {
+                missing.putIfAbsent(key, name);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        List<Tag> newTags = missing.values().stream()
+                .map(name -> Tag.builder()
+                        .userId(userId)
+                        .name(name)
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .toList();
+
+        tagRepository.saveAll(newTags).forEach(tag -> tagsByName.put(nameKey(tag.getName()), TagSnapshot.of(tag)));
+        publishCreated(userId, newTags);
+    }
+
     public ResolvedTagsDto resolveTagsFromNames(List<String> tagNames, String userId) {
         if (tagNames == null || tagNames.isEmpty()){
             return new ResolvedTagsDto(List.of(), List.of());
@@ -122,6 +241,7 @@ public class TagService {
 
         if (!newTags.isEmpty()) {
             tagRepository.saveAll(newTags);
+            publishCreated(userId, newTags);
         }
 
         List<Tag> allTags = Stream.concat(existingTags.stream(), newTags.stream()).toList();
@@ -131,4 +251,10 @@ public class TagService {
 
         return new ResolvedTagsDto(tagIds, tagDtos);
     }
+
+    // 여러 태그 생성은 이벤트 한 번으로 알림 (구독자가 태그마다 색인을 다시 만들지 않도록)
+    private void publishCreated(String userId, List<Tag> tags) {
+        eventPublisher.publishEvent(new TagsCreatedEvent(userId,
+                tags.stream().collect(Collectors.toMap(Tag::getId, Tag::getName))));
+    }
 }
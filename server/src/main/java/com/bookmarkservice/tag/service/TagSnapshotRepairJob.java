@@ -0,0 +1,156 @@
+package com.bookmarkservice.tag.service;
+
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.category.entity.Category;
+import com.bookmarkservice.category.event.CategoryChangedEvent;
+import com.bookmarkservice.common.mongo.MongoBackfill;
+import com.bookmarkservice.common.version.UserDataVersionService;
+import com.bookmarkservice.tag.entity.Tag;
+import com.bookmarkservice.tag.entity.TagSnapshot;
+import com.bookmarkservice.tag.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 북마크/카테고리에 저장된 태그 사본(tags)을 tags 컬렉션 기준으로 다시 맞추는 작업
+// 기동 시에는 사본이 없는 문서만 채우고, 주기적으로 전체를 비교해 어긋난 사본을 복구
+// 복구한 문서는 쓰기 경로와 같은 변경 이벤트로 알려 캐시/공유 스냅샷/공개 읽기 모델/검색 색인을 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagSnapshotRepairJob {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoBackfill mongoBackfill;
+    private final TagRepository tagRepository;
+    private final UserDataVersionService userDataVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissing() {
+        try {
+            repair(Criteria.where("tags").exists(false));
+        } catch (Exception e) {
+            log.error("태그 사본 채우기 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 기본: 매일 새벽 4시 30분
+    @Scheduled(cron = "${tag-snapshots.repair-cron:0 30 4 * * *}")
+    public void scheduledRepair() {
+        try {
+            repair(new Criteria());
+        } catch (Exception e) {
+            log.error("태그 사본 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // filter 에 해당하는 문서를 가진 사용자마다 태그 사전을 한 번 로드해 북마크/카테고리 사본 비교
+    public void repair(Criteria filter) {
+        Set<String> userIds = new LinkedHashSet<>();
+        userIds.addAll(mongoTemplate.findDistinct(new Query(filter), "userId", Bookmark.class, String.class));
+        userIds.addAll(mongoTemplate.findDistinct(new Query(filter), "userId", Category.class, String.class));
+
+        long repaired = 0;
+        for (String userId : userIds) {
+            Map<String, String> tagNames = tagRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                    .collect(Collectors.toMap(Tag::getId, Tag::getName, (first, second) -> first, HashMap::new));
+            List<String> bookmarkIds = repair(Bookmark.class, userId, filter, tagNames);
+            List<String> categoryIds = repair(Category.class, userId, filter, tagNames);
+            if (bookmarkIds.isEmpty() && categoryIds.isEmpty()) {
+                continue;
+            }
+
+            userDataVersionService.bump(userId); // 목록 응답이 바뀌었으므로 ETag 무효화
+            if (!bookmarkIds.isEmpty()) {
+                // 태그 사본만 바뀌고 tagIds 는 그대로이므로 태그별 개수 변화 없음
+                eventPublisher.publishEvent(new BookmarksChangedEvent(userId, bookmarkIds, Map.of()));
+            }
+            categoryIds.forEach(categoryId -> eventPublisher.publishEvent(new CategoryChangedEvent(userId, categoryId)));
+            repaired += bookmarkIds.size() + categoryIds.size();
+        }
+
+        if (repaired > 0) {
+            log.info("태그 사본 복구 완료: 사용자 {}명, 문서 {}건", userIds.size(), repaired);
+        }
+    }
+
+    // 사본을 고친 문서 ID 목록 반환
+    private List<String> repair(Class<?> entityClass, String userId, Criteria filter, Map<String, String> tagNames) {
+        Criteria owned = new Criteria().andOperator(Criteria.where("userId").is(userId), filter);
+        List<String> repairedIds = new ArrayList<>();
+        mongoBackfill.backfillDocuments(entityClass, owned, List.of("tagIds", "tags"), doc -> {
+            List<String> tagIds = doc.getList("tagIds", String.class);
+            loadForeignTags(tagIds, tagNames);
+            List<TagSnapshot> expected = expectedSnapshots(tagIds, tagNames);
+            if (matches(doc.getList("tags", Document.class), expected)) {
+                return null;
+            }
+            repairedIds.add(doc.get("_id").toString());
+            return Update.update("tags", expected);
+        });
+        return repairedIds;
+    }
+
+    // 가져온 카테고리처럼 다른 사용자의 태그를 참조하는 경우 해당 태그만 추가 조회 (없는 태그는 null 로 기록)
+    private void loadForeignTags(List<String> tagIds, Map<String, String> tagNames) {
+        if (tagIds == null) {
+            return;
+        }
+
+        List<String> unknown = tagIds.stream().filter(id -> !tagNames.containsKey(id)).toList();
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        unknown.forEach(id -> tagNames.put(id, null));
+        tagRepository.findAllById(unknown).forEach(tag -> tagNames.put(tag.getId(), tag.getName()));
+    }
+
+    // tagIds 순서대로, 삭제된 태그는 제외
+    private List<TagSnapshot> expectedSnapshots(List<String> tagIds, Map<String, String> tagNames) {
+        List<TagSnapshot> snapshots = new ArrayList<>();
+        if (tagIds != null) {
+            for (String tagId : tagIds) {
+                String name = tagNames.get(tagId);
+                if (name != null) {
+                    snapshots.add(new TagSnapshot(tagId, name));
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    private boolean matches(List<Document> stored, List<TagSnapshot> expected) {
+        if (stored == null || stored.size() != expected.size()) {
+            return false;
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            Document s = stored.get(i);
+            TagSnapshot e = expected.get(i);
+            if (!Objects.equals(s.getString("tagId"), e.getTagId()) || !Objects.equals(s.getString("name"), e.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
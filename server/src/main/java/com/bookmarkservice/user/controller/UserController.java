@@ -1,9 +1,13 @@
 package com.bookmarkservice.user.controller;
 
+import com.bookmarkservice.user.dto.NicknameUpdateRequestDto;
 import com.bookmarkservice.user.dto.RegisterDto;
+import com.bookmarkservice.user.dto.UserDeleteRequestDto;
 import com.bookmarkservice.user.repository.UserRepository;
+import com.bookmarkservice.user.service.UserDeletionService;
 import com.bookmarkservice.user.service.UserService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -12,10 +16,13 @@ public class UserController {
 
     private final UserRepository userRepository;
     private final UserService userService;
+    private final UserDeletionService userDeletionService;
 
-    public UserController(UserRepository userRepository, UserService userService) {
+    public UserController(UserRepository userRepository, UserService userService,
+                          UserDeletionService userDeletionService) {
         this.userRepository = userRepository;
         this.userService = userService;
+        this.userDeletionService = userDeletionService;
     }
 
     @PostMapping("/register")
@@ -32,4 +39,23 @@ public class UserController {
         }
     }
 
+    // 닉네임 변경
+    @PatchMapping("/me/nickname")
+    public ResponseEntity<Void> updateNickname(
+            @AuthenticationPrincipal String userId,
+            @RequestBody NicknameUpdateRequestDto dto) {
+        userService.updateNickname(userId, dto.getNickname());
+        return ResponseEntity.noContent().build();
+    }
+
+    // 회원 탈퇴 (북마크, 카테고리, 태그, 공유 링크 등 사용자 데이터 전체 삭제)
+    // 탈취된 토큰만으로 계정을 지울 수 없도록 현재 비밀번호를 함께 받음
+    @DeleteMapping("/me")
+    public ResponseEntity<Void> deleteMe(
+            @AuthenticationPrincipal String userId,
+            @RequestBody UserDeleteRequestDto dto) {
+        userService.verifyPassword(userId, dto.getPassword());
+        userDeletionService.deleteUser(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,10 @@
+package com.bookmarkservice.user.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class NicknameUpdateRequestDto {
+    private String nickname;
+}
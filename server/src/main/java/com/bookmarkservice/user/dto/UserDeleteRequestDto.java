@@ -0,0 +1,10 @@
+package com.bookmarkservice.user.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class UserDeleteRequestDto {
+    private String password; // 현재 비밀번호 재확인
+}
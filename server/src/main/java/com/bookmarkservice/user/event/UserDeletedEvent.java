@@ -0,0 +1,11 @@
+package com.bookmarkservice.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원 탈퇴로 사용자와 사용자 데이터가 모두 지워진 후 발행 (사용자 단위 캐시 정리용)
+@Getter
+@AllArgsConstructor
+public class UserDeletedEvent {
+    private final String userId;
+}
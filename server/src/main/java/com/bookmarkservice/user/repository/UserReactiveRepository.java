@@ -0,0 +1,15 @@
+package com.bookmarkservice.user.repository;
+
+import com.bookmarkservice.user.entity.User;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+public interface UserReactiveRepository extends ReactiveMongoRepository<User, String> {
+
+    // 공개 목록의 작성자 표시용 (_id, nickname 만 조회)
+    @Query(value = "{ '_id' : { $in : ?0 } }", fields = "{ 'nickname' : 1 }")
+    Flux<User> findNicknamesByIdIn(Collection<String> ids);
+}
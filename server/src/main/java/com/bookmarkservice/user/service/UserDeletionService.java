@@ -0,0 +1,69 @@
+package com.bookmarkservice.user.service;
+
+import com.bookmarkservice.auth.entity.RefreshToken;
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.category.entity.Category;
+import com.bookmarkservice.common.exception.NotFoundException;
+import com.bookmarkservice.common.version.UserDataVersion;
+import com.bookmarkservice.email.entity.EmailVerification;
+import com.bookmarkservice.share.service.ShareTokenService;
+import com.bookmarkservice.tag.entity.Tag;
+import com.bookmarkservice.user.entity.User;
+import com.bookmarkservice.user.event.UserDeletedEvent;
+import com.bookmarkservice.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 회원 탈퇴: 사용자 소유 문서를 컬렉션마다 한 번의 deleteMany 로 삭제 (문서를 메모리로 읽지 않음)
+// 중간에 실패해도 사용자 문서가 남아 있어 다시 요청할 수 있도록 사용자 문서는 마지막에 삭제
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDeletionService {
+
+    private final UserRepository userRepository;
+    private final ShareTokenService shareTokenService;
+    private final UserNicknameCache userNicknameCache;
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void deleteUser(String userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
+
+        // 공유 토큰은 카테고리 ID 로만 연결되어 있으므로 카테고리 ID 만 먼저 조회
+        Query owned = new Query(Criteria.where("userId").is(userId));
+        Query categoryIdsQuery = new Query(Criteria.where("userId").is(userId));
+        categoryIdsQuery.fields().include("_id");
+        List<String> categoryIds = mongoTemplate.find(categoryIdsQuery, Category.class).stream()
+                .map(Category::getId)
+                .toList();
+        shareTokenService.revokeTokensByCategoryIds(categoryIds);
+
+        long bookmarks = mongoTemplate.remove(owned, Bookmark.class).getDeletedCount();
+        long categories = mongoTemplate.remove(owned, Category.class).getDeletedCount();
+        long tags = mongoTemplate.remove(owned, Tag.class).getDeletedCount();
+        mongoTemplate.remove(owned, RefreshToken.class);
+
+        // 공개 북마크 읽기 모델/검색 색인과 사용자별 캐시는 기존 변경 이벤트로 정리
+        eventPublisher.publishEvent(new BookmarksChangedEvent(userId, null));
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
+
+        // 이벤트 처리 중 올라간 데이터 버전까지 지우도록 이벤트 발행 후 삭제
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(userId)), UserDataVersion.class);
+        mongoTemplate.remove(new Query(Criteria.where("email").is(user.getEmail())), EmailVerification.class);
+        userRepository.delete(user);
+        userNicknameCache.invalidate(userId);
+
+        log.info("회원 탈퇴 완료: userId={}, 북마크={}, 카테고리={}, 태그={}, 공유 토큰 카테고리={}",
+                userId, bookmarks, categories, tags, categoryIds.size());
+    }
+}
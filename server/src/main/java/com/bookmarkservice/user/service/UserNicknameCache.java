@@ -0,0 +1,62 @@
+package com.bookmarkservice.user.service;
+
+import com.bookmarkservice.user.entity.User;
+import com.bookmarkservice.user.repository.UserReactiveRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+// 사용자 ID -> 닉네임 캐시 (공개 카테고리 작성자 표시용)
+// 닉네임 변경 시 UserService 가 제거하며, 캐시에 없는 사용자만 $in 한 번으로 조회
+@Component
+public class UserNicknameCache {
+
+    private final UserReactiveRepository userReactiveRepository;
+
+    // 닉네임이 없는 사용자도 캐시하도록 Optional 로 보관
+    private final Cache<String, Optional<String>> nicknames = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .recordStats()
+            .build();
+
+    public UserNicknameCache(UserReactiveRepository userReactiveRepository, MeterRegistry meterRegistry) {
+        this.userReactiveRepository = userReactiveRepository;
+        CaffeineCacheMetrics.monitor(meterRegistry, nicknames, "userNicknames");
+    }
+
+    // 존재하지 않는 사용자는 결과 맵에 포함되지 않음
+    public Mono<Map<String, Optional<String>>> getNicknames(Collection<String> userIds) {
+        List<String> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<String, Optional<String>> found = new HashMap<>(nicknames.getAllPresent(ids));
+        List<String> missing = ids.stream()
+                .filter(userId -> !found.containsKey(userId))
+                .toList();
+        if (missing.isEmpty()) {
+            return Mono.just(found);
+        }
+
+        return userReactiveRepository.findNicknamesByIdIn(missing)
+                .doOnNext(user -> {
+                    Optional<String> nickname = Optional.ofNullable(user.getNickname());
+                    nicknames.put(user.getId(), nickname);
+                    found.put(user.getId(), nickname);
+                })
+                .then(Mono.fromSupplier(() -> found));
+    }
+
+    public void invalidate(String userId) {
+        nicknames.invalidate(userId);
+    }
+}
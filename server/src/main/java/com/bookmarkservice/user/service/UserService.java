@@ -3,6 +3,8 @@ package com.bookmarkservice.user.service;
 import com.bookmarkservice.common.jwt.JwtTokenProvider;
 import com.bookmarkservice.auth.dto.LoginRequestDto;
 import com.bookmarkservice.auth.dto.LoginResponseDto;
+import com.bookmarkservice.common.exception.BadRequestException;
+import com.bookmarkservice.common.exception.NotFoundException;
 import com.bookmarkservice.user.dto.RegisterDto;
 import com.bookmarkservice.user.entity.User;
 import com.bookmarkservice.email.service.EmailVerificationService;
@@ -19,6 +21,7 @@ public class UserService {
     private final EmailVerificationService emailVerificationService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserNicknameCache userNicknameCache;
 
     public void signUp(RegisterDto request) {
         if (!emailVerificationService.canRegister(request.getEmail())) {
@@ -34,6 +37,34 @@ public class UserService {
         userRepository.save(user);
     }
 
+    public void updateNickname(String userId, String nickname) {
+        if (nickname == null || nickname.isBlank()) {
+            throw new BadRequestException("닉네임을 입력해주세요.");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
+        user.setNickname(nickname.trim());
+        userRepository.save(user);
+
+        // 공개 카테고리 작성자 표시에 바로 반영
+        userNicknameCache.invalidate(userId);
+    }
+
+    // 회원 탈퇴 등 되돌릴 수 없는 작업 전 현재 비밀번호 재확인
+    // 401 은 클라이언트가 토큰 재발급으로 처리하므로 불일치는 400 으로 응답
+    public void verifyPassword(String userId, String password) {
+        if (password == null || password.isBlank()) {
+            throw new BadRequestException("비밀번호를 입력해주세요.");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
+        if (!passwordEncoder.matches(password, user.getPassword())) {
+            throw new BadRequestException("비밀번호가 일치하지 않습니다.");
+        }
+    }
+
     public LoginResponseDto login(LoginRequestDto request) {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이메일입니다."));
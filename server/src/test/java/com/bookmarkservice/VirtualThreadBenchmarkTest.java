@@ -0,0 +1,228 @@
+package com.bookmarkservice;
+
+import com.bookmarkservice.bookmark.service.BookmarkSearchTokenizer;
+import com.bookmarkservice.category.entity.Category;
+import com.bookmarkservice.category.repository.CategoryRepository;
+import com.bookmarkservice.user.entity.User;
+import com.bookmarkservice.user.repository.UserRepository;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+// 플랫폼 스레드 풀 vs 가상 스레드 요청 처리 처리량/지연 비교 (임베디드 MongoDB 사용)
+// 기본 test 태스크에서는 제외되며 ./gradlew benchmark -PjavaVersion=21 로 실행
+// 동시 사용자 수, 측정 시간, 톰캣 최대 스레드 수는 시스템 속성(benchmark.*)으로 조정
+// 모드마다 별도 데이터베이스를 쓰고 같은 데이터를 시드해 두 실행이 같은 작업량을 측정
+@Tag("benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 5));
+    private static final Duration MEASURE = Duration.ofSeconds(Long.getLong("benchmark.measure-seconds", 20));
+    private static final int TOMCAT_MAX_THREADS = Integer.getInteger("benchmark.tomcat-max-threads", 200);
+    private static final String EMAIL = "benchmark@example.com";
+    private static final String PASSWORD = "benchmark-password";
+
+    @Test
+    void compareThroughputAndLatency() throws Exception {
+        try (TransitionWalker.ReachedState<RunningMongodProcess> mongod = Mongod.instance().start(Version.Main.V7_0)) {
+            String mongoUri = "mongodb://" + mongod.current().getServerAddress() + "/bookmarkservice-benchmark-";
+
+            List<Result> results = new ArrayList<>();
+            results.add(run("platform", mongoUri + "platform", false));
+            if (Runtime.version().feature() >= 21) {
+                results.add(run("virtual", mongoUri + "virtual", true));
+            } else {
+                System.out.println("[benchmark] Java " + Runtime.version().feature()
+                        + " 에서는 가상 스레드를 사용할 수 없어 플랫폼 스레드만 측정합니다. (-PjavaVersion=21)");
+            }
+
+            System.out.printf("[benchmark] 동시 사용자=%d, 측정=%ds, tomcat.threads.max=%d%n",
+                    CONCURRENCY, MEASURE.toSeconds(), TOMCAT_MAX_THREADS);
+            System.out.printf("[benchmark] %-8s %12s %10s %10s %10s %8s%n", "mode", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+            results.forEach(r -> System.out.printf("[benchmark] %-8s %12.1f %10.1f %10.1f %10.1f %8d%n",
+                    r.mode, r.throughput, r.p50, r.p99, r.max, r.errors));
+        }
+    }
+
+    private Result run(String mode, String mongoUri, boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookmarkserviceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.data.mongodb.uri=" + mongoUri,
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "server.tomcat.accept-count=" + CONCURRENCY * 2,
+                        "jwt.secret=benchmark-secret-key-benchmark-secret-key-benchmark-secret-key",
+                        "jwt.expiration=3600000",
+                        "jwt.refresh-expiration=86400000",
+                        "spring.mail.username=benchmark@example.com",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework.data.mongodb=WARN",
+                        "logging.level.org.mongodb=WARN")
+                .run()) {
+            seed(context);
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            verify(port);
+
+            load(port, WARMUP, null);
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            AtomicLong errors = new AtomicLong();
+            long started = System.nanoTime();
+            load(port, MEASURE, new Recorder(latencies, errors));
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new Result(mode, sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0), errors.get());
+        }
+    }
+
+    // 로그인(BCrypt + 사용자 조회)과 공개 카테고리 제목 검색(MongoDB 조회)을 번갈아 요청
+    private void load(int port, Duration duration, Recorder recorder) throws InterruptedException {
+        // HttpClient 는 Java 17 에서 닫을 수 없으므로 넘겨준 실행기를 직접 종료 (호출마다 스레드가 남지 않도록)
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(16);
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            run(port, duration, recorder, httpExecutor, clients);
+        } finally {
+            clients.shutdownNow();
+            httpExecutor.shutdownNow();
+            clients.awaitTermination(10, TimeUnit.SECONDS);
+            httpExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private void run(int port, Duration duration, Recorder recorder, ExecutorService httpExecutor,
+                     ExecutorService clients) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(httpExecutor)
+                .build();
+        HttpRequest login = loginRequest(port);
+        HttpRequest search = searchRequest(port);
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            int offset = i;
+            clients.submit(() -> {
+                int n = offset;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = (n++ % 4 == 0) ? login : search;
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (recorder != null) {
+                            recorder.record(System.nanoTime() - begin, response.statusCode() != 200);
+                        }
+                    } catch (Exception e) {
+                        if (recorder != null) {
+                            recorder.record(System.nanoTime() - begin, true);
+                        }
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+    }
+
+    // 측정 전에 두 요청이 실제로 성공하고 검색이 결과를 돌려주는지 확인 (빈 결과의 빠른 응답을 측정하지 않도록)
+    private void verify(int port) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<String> login = client.send(loginRequest(port), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, login.statusCode(), "로그인 실패: " + login.body());
+
+        HttpResponse<String> search = client.send(searchRequest(port), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, search.statusCode(), "검색 실패: " + search.body());
+        assertNotEquals("[]", search.body().trim(), "검색 결과가 비어 있음");
+    }
+
+    private static HttpRequest loginRequest(int port) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+    }
+
+    private static HttpRequest searchRequest(int port) {
+        return HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/public/categories/search/title?keyword=benchmark"))
+                .GET()
+                .build();
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+        PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+
+        if (userRepository.findByEmail(EMAIL).isPresent()) {
+            return;
+        }
+        User user = userRepository.save(User.builder()
+                .email(EMAIL)
+                .password(passwordEncoder.encode(PASSWORD))
+                .nickname("benchmark")
+                .isEmailVerified(true)
+                .build());
+        categoryRepository.saveAll(IntStream.range(0, 50)
+                .mapToObj(i -> Category.builder()
+                        .userId(user.getId())
+                        .title("benchmark category " + i)
+                        .titleTokens(BookmarkSearchTokenizer.tokensOf("benchmark category " + i, null, null))
+                        .tagIds(List.of())
+                        .tags(List.of())
+                        .isPublic(true)
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .toList());
+    }
+
+    private static double percentile(long[] sortedNanos, double p) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1e6;
+    }
+
+    private record Recorder(List<Long> latencies, AtomicLong errors) {
+        void record(long nanos, boolean error) {
+            if (error) {
+                errors.incrementAndGet();
+            } else {
+                latencies.add(nanos);
+            }
+        }
+    }
+
+    private record Result(String mode, double throughput, double p50, double p99, double max, long errors) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.bookmarkservice.bookmark.service;
+
+import com.bookmarkservice.bookmark.dto.BookmarkImportResultDto;
+import com.bookmarkservice.bookmark.entity.Bookmark;
+import com.bookmarkservice.bookmark.event.BookmarksChangedEvent;
+import com.bookmarkservice.bookmark.repository.BookmarkRepository;
+import com.bookmarkservice.tag.entity.TagSnapshot;
+import com.bookmarkservice.tag.service.TagService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookmarkImportServiceTest {
+
+    private final BookmarkRepository bookmarkRepository = mock(BookmarkRepository.class);
+    private final TagService tagService = mock(TagService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final BookmarkImportService importService =
+            new BookmarkImportService(bookmarkRepository, tagService, new ObjectMapper(), eventPublisher);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void insertsFixedSizeBatchesAndCreatesMissingTagsOnceForWholeUpload() {
+        Map<String, TagSnapshot> dictionary = new HashMap<>();
+        dictionary.put("work", new TagSnapshot("work-id", "Work"));
+        when(tagService.findTagsByName("user")).thenReturn(dictionary);
+        doAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(1);
+            Map<String, TagSnapshot> tags = invocation.getArgument(2);
+            names.forEach(name -> tags.putIfAbsent(TagService.nameKey(name), new TagSnapshot(name + "-id", name)));
+            return null;
+        }).when(tagService).createMissingTags(eq("user"), any(), any());
+        when(bookmarkRepository.insertUnordered(anyList()))
+                .thenAnswer(invocation -> ((List<Bookmark>) invocation.getArgument(0)).size());
+
+        StringBuilder html = new StringBuilder("<DL><p><DT><H3>work</H3><DL><p>");
+        for (int i = 0; i < 2001; i++) {
+            html.append("<DT><A HREF=\"https://example.com/").append(i).append("\" TAGS=\"WORK,new\">").append(i).append("</A>");
+        }
+        html.append("</DL><p></DL><p>");
+        MockMultipartFile file = new MockMultipartFile("file", "bookmarks.html", "text/html",
+                html.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<BookmarkImportResultDto> progress = new ArrayList<>();
+        BookmarkImportResultDto result = importService.importNetscapeHtml("user", file, progress::add);
+
+        assertEquals(2001, result.getParsed());
+        assertEquals(2001, result.getImported());
+        assertEquals(3, result.getBatches());
+        assertEquals(1, result.getTagsCreated());
+        assertEquals(List.of(false, false, true), progress.stream().map(BookmarkImportResultDto::isCompleted).toList());
+
+        verify(tagService, times(1)).createMissingTags(eq("user"), any(), any());
+        ArgumentCaptor<List<Bookmark>> batches = ArgumentCaptor.forClass(List.class);
+        verify(bookmarkRepository, times(3)).insertUnordered(batches.capture());
+        assertEquals(List.of(1000, 1000, 1), batches.getAllValues().stream().map(List::size).toList());
+
+        // 폴더 "work" 와 TAGS 의 "WORK" 는 기존 태그 "Work" 하나로 합쳐짐
+        Bookmark first = batches.getAllValues().get(0).get(0);
+        assertEquals(List.of("work-id", "new-id"), first.getTagIds());
+        assertEquals(List.of("Work", "new"), first.getTags().stream().map(TagSnapshot::getName).toList());
+        verify(eventPublisher).publishEvent(any(BookmarksChangedEvent.class));
+    }
+
+    @Test
+    void emptyUploadInsertsNothing() {
+        when(tagService.findTagsByName("user")).thenReturn(new HashMap<>());
+        MockMultipartFile file = new MockMultipartFile("file", new byte[0]);
+
+        BookmarkImportResultDto result = importService.importNetscapeHtml("user", file, progress -> { });
+
+        assertEquals(0, result.getParsed());
+        assertEquals(0, result.getBatches());
+        assertTrue(result.isCompleted());
+        verify(bookmarkRepository, times(0)).insertUnordered(anyList());
+    }
+}
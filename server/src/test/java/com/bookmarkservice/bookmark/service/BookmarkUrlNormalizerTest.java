@@ -0,0 +1,39 @@
+package com.bookmarkservice.bookmark.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class BookmarkUrlNormalizerTest {
+
+    @Test
+    void lowercasesSchemeAndHostAndDropsDefaultPortFragmentAndTrailingSlash() {
+        assertEquals("https://example.com/Path",
+                BookmarkUrlNormalizer.normalize("  HTTPS://Example.COM:443/Path/#section "));
+        assertEquals("http://example.com:8080/a", BookmarkUrlNormalizer.normalize("http://example.com:8080/a/"));
+    }
+
+    @Test
+    void sortsQueryParametersAndDropsUtmTracking() {
+        assertEquals("https://example.com/a?b=2&c=3",
+                BookmarkUrlNormalizer.normalize("https://example.com/a?utm_source=x&c=3&UTM_medium=y&b=2"));
+        assertEquals("https://example.com/a", BookmarkUrlNormalizer.normalize("https://example.com/a?utm_source=x"));
+    }
+
+    @Test
+    void leavesUnparseableOrRelativeUrlsTrimmed() {
+        assertEquals("not a url", BookmarkUrlNormalizer.normalize(" not a url "));
+        assertEquals("/relative/path", BookmarkUrlNormalizer.normalize("/relative/path"));
+        assertEquals("", BookmarkUrlNormalizer.normalize(null));
+    }
+
+    @Test
+    void hashIsSameForEquivalentUrlsAndDifferentOtherwise() {
+        String hash = BookmarkUrlNormalizer.hash("https://example.com/a?b=1&c=2");
+
+        assertEquals(32, hash.length());
+        assertEquals(hash, BookmarkUrlNormalizer.hash("HTTPS://EXAMPLE.com/a/?c=2&b=1&utm_campaign=z#top"));
+        assertNotEquals(hash, BookmarkUrlNormalizer.hash("https://example.com/a?b=1"));
+    }
+}
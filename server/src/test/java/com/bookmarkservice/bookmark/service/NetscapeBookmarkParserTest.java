@@ -0,0 +1,105 @@
+package com.bookmarkservice.bookmark.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class NetscapeBookmarkParserTest {
+
+    private static final String EXPORT = """
+            <!DOCTYPE NETSCAPE-Bookmark-file-1>
+            <META HTTP-EQUIV="Content-Type" CONTENT="text/html; charset=UTF-8">
+            <TITLE>Bookmarks</TITLE>
+            <H1>Bookmarks</H1>
+            <DL><p>
+                <DT><H3 ADD_DATE="1700000000" PERSONAL_TOOLBAR_FOLDER="true">북마크바</H3>
+                <DL><p>
+                    <DT><A HREF="https://a.example/" ADD_DATE="1700000000">A</A>
+                    <DT><H3>Dev</H3>
+                    <DL><p>
+                        <DT><H3>Java &amp; Spring</H3>
+                        <DL><p>
+                            <DT><A HREF="https://b.example/?x=1&amp;y=2" TAGS="spring,boot">B &lt;b&gt;</A>
+                            <DD>desc &#X41;&#x42;&#67;
+                        </DL><p>
+                        <DT><A HREF="https://c.example/"></A>
+                    </DL><p>
+                </DL><p>
+                <DT><A HREF="javascript:void(0)">skip</A>
+                <DT><A HREF="place:sort=8">skip</A>
+            </DL><p>
+            """;
+
+    @Test
+    void mapsNestedFoldersToTagsAndSkipsToolbarFolder() throws IOException {
+        List<NetscapeBookmarkParser.ParsedBookmark> bookmarks = parse(EXPORT);
+
+        assertEquals(List.of("https://a.example/", "https://b.example/?x=1&y=2", "https://c.example/"),
+                bookmarks.stream().map(NetscapeBookmarkParser.ParsedBookmark::getUrl).toList());
+        assertEquals(List.of(), List.copyOf(bookmarks.get(0).getTagNames()));
+        assertEquals(List.of("Dev", "Java & Spring", "spring", "boot"), List.copyOf(bookmarks.get(1).getTagNames()));
+        assertEquals(List.of("Dev"), List.copyOf(bookmarks.get(2).getTagNames()));
+        assertNotNull(bookmarks.get(0).getAddedAt());
+    }
+
+    @Test
+    void decodesEntitiesInTitlesAndDescriptionsAndFallsBackToUrlTitle() throws IOException {
+        List<NetscapeBookmarkParser.ParsedBookmark> bookmarks = parse(EXPORT);
+
+        assertEquals("B <b>", bookmarks.get(1).getTitle());
+        assertEquals("desc ABC", bookmarks.get(1).getDescription());
+        assertNull(bookmarks.get(0).getDescription());
+        assertEquals("https://c.example/", bookmarks.get(2).getTitle());
+    }
+
+    @Test
+    void unescapesNamedAndNumericEntitiesInBothHexCases() {
+        assertEquals("A B C é", NetscapeBookmarkParser.unescape("&#x41; &#X42; &#67; &#233;"));
+        assertEquals("<a href=\"x\">&'", NetscapeBookmarkParser.unescape("&lt;a href=&quot;x&quot;&gt;&amp;&apos;"));
+        assertEquals("&amp;", NetscapeBookmarkParser.unescape("&amp;amp;"));
+    }
+
+    @Test
+    void ignoresUnterminatedTagAtEndAndUnbalancedClosingLists() throws IOException {
+        List<NetscapeBookmarkParser.ParsedBookmark> bookmarks = parse("""
+                </DL></DL><DL><p>
+                <DT><A HREF="https://a.example/">A</A>
+                <DT><A HREF="https://b.example/" ADD_DATE="not a number""");
+
+        assertEquals(1, bookmarks.size());
+        assertEquals("https://a.example/", bookmarks.get(0).getUrl());
+    }
+
+    @Test
+    void capsOversizedTagsWithoutLosingLeadingAttributes() throws IOException {
+        String icon = "x".repeat(NetscapeBookmarkParser.MAX_TAG_LENGTH * 2);
+        List<NetscapeBookmarkParser.ParsedBookmark> bookmarks = parse(
+                "<DL><DT><A HREF=\"https://a.example/\" ICON=\"data:" + icon + "\">A</A></DL>");
+
+        assertEquals(1, bookmarks.size());
+        assertEquals("https://a.example/", bookmarks.get(0).getUrl());
+        assertEquals("A", bookmarks.get(0).getTitle());
+    }
+
+    @Test
+    void readsUploadWithoutClosingBracketWithoutBufferingIt() throws IOException {
+        String upload = "<DL><DT><A HREF=\"https://a.example/\">A</A><DT><A " + "x".repeat(NetscapeBookmarkParser.MAX_TAG_LENGTH * 4);
+
+        List<NetscapeBookmarkParser.ParsedBookmark> bookmarks = parse(upload);
+
+        assertEquals(1, bookmarks.size());
+    }
+
+    private static List<NetscapeBookmarkParser.ParsedBookmark> parse(String html) throws IOException {
+        List<NetscapeBookmarkParser.ParsedBookmark> bookmarks = new ArrayList<>();
+        new NetscapeBookmarkParser(new StringReader(html), bookmarks::add).parse();
+        return bookmarks;
+    }
+}
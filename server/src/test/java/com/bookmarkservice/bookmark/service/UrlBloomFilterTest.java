@@ -0,0 +1,58 @@
+package com.bookmarkservice.bookmark.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UrlBloomFilterTest {
+
+    @Test
+    void neverReportsAnAddedHashAsMissing() {
+        List<String> hashes = hashes(0, 5_000);
+        UrlBloomFilter filter = new UrlBloomFilter(hashes.size());
+        hashes.forEach(filter::add);
+
+        hashes.forEach(hash -> assertTrue(filter.mightContain(hash)));
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearDesignWithinCapacity() {
+        UrlBloomFilter filter = new UrlBloomFilter(5_000);
+        hashes(0, 5_000).forEach(filter::add);
+
+        long falsePositives = hashes(5_000, 25_000).stream().filter(filter::mightContain).count();
+
+        // 설계 오탐률 1% (용량의 절반만 채웠으므로 실제로는 더 낮음)
+        assertTrue(falsePositives < 20_000 * 0.01, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void becomesSaturatedOnlyAfterExceedingCapacity() {
+        UrlBloomFilter filter = new UrlBloomFilter(1_000);
+        List<String> hashes = hashes(0, 2_001);
+
+        hashes.subList(0, 2_000).forEach(filter::add);
+        assertFalse(filter.isSaturated());
+
+        filter.add(hashes.get(2_000));
+        assertTrue(filter.isSaturated());
+    }
+
+    @Test
+    void reportsBitArraySize() {
+        UrlBloomFilter filter = new UrlBloomFilter(10_000);
+
+        // 용량 20,000, 오탐률 1% -> 약 191,702 비트
+        assertTrue(filter.sizeInBytes() >= 191_702 / 8);
+    }
+
+    private static List<String> hashes(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> BookmarkUrlNormalizer.hash("https://example.com/page/" + i))
+                .toList();
+    }
+}
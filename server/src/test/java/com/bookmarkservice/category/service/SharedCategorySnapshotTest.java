@@ -0,0 +1,30 @@
+package com.bookmarkservice.category.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SharedCategorySnapshotTest {
+
+    @Test
+    void acceptsGzipListedWithoutOrWithPositiveQuality() {
+        assertTrue(SharedCategorySnapshot.acceptsGzip("gzip"));
+        assertTrue(SharedCategorySnapshot.acceptsGzip("br, GZIP;q=0.5, deflate"));
+        assertTrue(SharedCategorySnapshot.acceptsGzip("*"));
+    }
+
+    @Test
+    void rejectsGzipWithZeroQualityEvenWhenWildcardAllows() {
+        assertFalse(SharedCategorySnapshot.acceptsGzip("gzip;q=0"));
+        assertFalse(SharedCategorySnapshot.acceptsGzip("*, gzip ; q=0.0"));
+        assertFalse(SharedCategorySnapshot.acceptsGzip("identity, *;q=0"));
+    }
+
+    @Test
+    void rejectsMissingOrUnrelatedOrMalformedHeaders() {
+        assertFalse(SharedCategorySnapshot.acceptsGzip(null));
+        assertFalse(SharedCategorySnapshot.acceptsGzip("br, deflate"));
+        assertFalse(SharedCategorySnapshot.acceptsGzip("gzip;q=abc"));
+    }
+}
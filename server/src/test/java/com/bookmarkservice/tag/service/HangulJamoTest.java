@@ -0,0 +1,48 @@
+package com.bookmarkservice.tag.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulJamoTest {
+
+    @Test
+    void decomposesSyllablesIntoCompatibilityJamo() {
+        assertEquals("ㅂㅜㄱㅁㅏㅋㅡ", HangulJamo.decompose("북마크"));
+    }
+
+    @Test
+    void splitsCompoundVowelsAndFinalsInTypingOrder() {
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+        assertEquals("ㄱㅗㅏ", HangulJamo.decompose("과"));
+        assertEquals("ㄱㅗㅏ", HangulJamo.decompose("고ㅏ"));
+        assertEquals("ㄱㅗㅏ", HangulJamo.decompose("ㄱㅘ"));
+    }
+
+    @Test
+    void partiallyTypedSyllableIsPrefixOfFullSyllable() {
+        // "닭" 을 입력하는 중간 상태 "달" 도 접두어로 일치
+        assertTrue(HangulJamo.decompose("닭갈비").startsWith(HangulJamo.decompose("달")));
+        assertTrue(HangulJamo.decompose("봐").startsWith(HangulJamo.decompose("보")));
+    }
+
+    @Test
+    void lowercasesAndTrimsNonHangulText() {
+        assertEquals("spring boot", HangulJamo.decompose("  Spring Boot "));
+        assertEquals("", HangulJamo.decompose(null));
+    }
+
+    @Test
+    void choseongKeepsOnlyInitialConsonants() {
+        assertEquals("ㅂㅁㅋ", HangulJamo.choseong("북마크"));
+        assertEquals("java ㅅㅌㄷ", HangulJamo.choseong("Java 스터디"));
+    }
+
+    @Test
+    void choseongIsNullWithoutSyllables() {
+        assertNull(HangulJamo.choseong("spring"));
+        assertNull(HangulJamo.choseong("ㅂㅁㅋ"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.bookmarkservice.tag.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TagPrefixIndexTest {
+
+    private final TagPrefixIndex index = TagPrefixIndex.of(Map.of(
+            "t1", "북마크",
+            "t2", "Spring Boot",
+            "t3", "닭갈비 맛집",
+            "t4", "부산"));
+
+    @Test
+    void matchesFullAndPartiallyTypedPrefixes() {
+        assertEquals(Set.of("t1", "t4"), index.search("부"));
+        assertEquals(Set.of("t1"), index.search("북"));
+        assertEquals(Set.of("t1"), index.search("ㅂㅜㄱ"));
+        assertEquals(Set.of("t3"), index.search("달"));
+    }
+
+    @Test
+    void matchesChoseongAndWordStarts() {
+        assertEquals(Set.of("t1"), index.search("ㅂㅁ"));
+        assertEquals(Set.of("t3"), index.search("맛"));
+        assertEquals(Set.of("t2"), index.search("boot"));
+        assertEquals(Set.of("t2"), index.search("SPR"));
+    }
+
+    @Test
+    void returnsNothingForBlankOrUnknownPrefix() {
+        assertTrue(index.search(" ").isEmpty());
+        assertTrue(index.search("python").isEmpty());
+    }
+
+    @Test
+    void withAddsAndRenamesWithoutTouchingOtherTags() {
+        TagPrefixIndex updated = index.with(Map.of("t5", "부동산", "t1", "즐겨찾기"));
+
+        assertEquals(Set.of("t4", "t5"), updated.search("부"));
+        assertEquals(Set.of("t1"), updated.search("즐겨"));
+        assertEquals("즐겨찾기", updated.nameOf("t1"));
+        // 원본 색인은 그대로
+        assertEquals(Set.of("t1", "t4"), index.search("부"));
+    }
+
+    @Test
+    void withoutRemovesAllKeysOfTag() {
+        TagPrefixIndex updated = index.without("t3");
+
+        assertTrue(updated.search("달").isEmpty());
+        assertTrue(updated.search("맛").isEmpty());
+        assertNull(updated.nameOf("t3"));
+        assertEquals(Set.of("t1", "t4"), updated.search("부"));
+    }
+
+    @Test
+    void incrementalUpdatesMatchFullBuild() {
+        TagPrefixIndex incremental = TagPrefixIndex.of(Map.of())
+                .with("t1", "북마크")
+                .with("t2", "Spring Boot")
+                .with(Map.of("t3", "닭갈비 맛집", "t4", "부산"))
+                .with("t6", "임시")
+                .without("t6");
+
+        for (String prefix : new String[]{"부", "ㅂ", "s", "b", "닭", "ㅁㅈ", "임"}) {
+            assertEquals(index.search(prefix), incremental.search(prefix), prefix);
+        }
+    }
+}